@@ -0,0 +1,113 @@
+package com.seek.tasks.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.seek.tasks.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of writing and reading a task list in each negotiable representation,
+ * with gzip applied where {@code server.compression} would apply it. The encoded
+ * size of each payload is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskPayloadFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"json", "json+gzip", "cbor", "cbor+gzip", "smile", "smile+gzip"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private JavaType listType;
+    private boolean gzip;
+    private List<TaskResponseDTO> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] parts = format.split("\\+");
+        JsonFactory factory = switch (parts[0]) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        gzip = parts.length > 1;
+        // Same settings the application's converters use for every format
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .factory(factory)
+                .build();
+        listType = objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponseDTO.class);
+
+        Task.TaskStatus[] statuses = Task.TaskStatus.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskResponseDTO.builder()
+                    .id(String.format("65a4f0c2e13b2a1d%08x", i))
+                    .title("Task " + i)
+                    .description("Description for task " + i + " with a few more words of detail")
+                    .status(statuses[i % statuses.length])
+                    .createdAt(start.plusMinutes(i))
+                    .updatedAt(start.plusMinutes(i + 30L))
+                    .version(i % 5L)
+                    .build());
+        }
+
+        encoded = write();
+        System.out.printf("%n%s, %d tasks: %d bytes (%.1f per task)%n",
+                format, size, encoded.length, (double) encoded.length / size);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 128);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            objectMapper.writeValue(out, tasks);
+        }
+        return bytes.toByteArray();
+    }
+
+    // What an internal caller pays to turn the response back into DTOs
+    @Benchmark
+    public List<TaskResponseDTO> read() throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+                : new ByteArrayInputStream(encoded)) {
+            return objectMapper.readValue(in, listType);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.seek.tasks.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.tasks.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing task lists the size of a small board, a full page export
+ * and a heavy user's whole collection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponseDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the HTTP message converters
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Task.TaskStatus[] statuses = Task.TaskStatus.values();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskResponseDTO.builder()
+                    .id(String.format("65a4f0c2e13b2a1d%08x", i))
+                    .title("Task " + i)
+                    .description("Description for task " + i + " with a few more words of detail")
+                    .status(statuses[i % statuses.length])
+                    .createdAt(start.plusMinutes(i))
+                    .updatedAt(start.plusMinutes(i + 30L))
+                    .version(i % 5L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    // Streams into the sink the way the message converter writes the response body
+    @Benchmark
+    public void writeToStream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+}
@@ -0,0 +1,92 @@
+package com.seek.tasks.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.tasks.dto.TaskRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error responses are rendered on every 404, 400 and 500; the
+ * createAndRender variant adds the exception's own stack capture.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorRenderingBenchmark {
+
+    private static final String TASK_ID = "65a4f0c2e13b2a1d9c8b4567";
+    private static final String USER_ID = "65a4f0c2e13b2a1d9c8b0001";
+
+    private GlobalExceptionHandler exceptionHandler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private TaskNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+    private RuntimeException unexpected;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        exceptionHandler = new GlobalExceptionHandler();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = new MockHttpServletRequest("GET", "/api/tasks/" + TASK_ID);
+        notFound = new TaskNotFoundException(TASK_ID, USER_ID);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new TaskRequestDTO(), "taskRequest");
+        bindingResult.addError(new FieldError("taskRequest", "title", "Title is required"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorRenderingBenchmark.class.getDeclaredMethod("validated", TaskRequestDTO.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        unexpected = new IllegalStateException("Unexpected failure");
+    }
+
+    @Benchmark
+    public byte[] renderNotFound() throws IOException {
+        return write(exceptionHandler.handleTaskNotFoundException(notFound, request));
+    }
+
+    @Benchmark
+    public byte[] createAndRenderNotFound() throws IOException {
+        return write(exceptionHandler.handleTaskNotFoundException(
+                new TaskNotFoundException(TASK_ID, USER_ID), request));
+    }
+
+    @Benchmark
+    public byte[] renderValidationFailure() throws IOException {
+        return write(exceptionHandler.handleValidationExceptions(invalid, request));
+    }
+
+    @Benchmark
+    public byte[] renderUnexpected() throws IOException {
+        return write(exceptionHandler.handleGlobalException(unexpected, request));
+    }
+
+    private byte[] write(ResponseEntity<ErrorResponse> response) throws IOException {
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @SuppressWarnings("unused")
+    private void validated(TaskRequestDTO taskRequest) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost, with and without the verified-token cache
+ * that spares the HMAC check for tokens seen within the last minute.
+ * {@link #authenticateWithParserPerCall()} replays what the authentication filter
+ * did before the key and parser were built once: derive the key and build a parser
+ * for each of two verifications. Compare it with {@link #parseClaims()}, the
+ * filter's single call today.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    private boolean verifiedCache;
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+    private String secret;
+
+    @Setup
+    public void setUp() {
+        secret = "mySecretKeyForJwtTokenGenerationAndValidationPleaseChangeInProduction";
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheEnabled", verifiedCache);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 10000L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheTtl", Duration.ofMinutes(1));
+        tokenProvider.init();
+
+        user = User.builder()
+                .id("65a4f0c2e13b2a1d9c8b4567")
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .credentialsVersion(3)
+                .build();
+        token = tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String authenticateWithParserPerCall() {
+        // validateToken, then getUsernameFromToken, each with its own key and parser
+        Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token);
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+}
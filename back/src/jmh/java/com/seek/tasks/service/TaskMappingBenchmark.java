@@ -0,0 +1,51 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping runs once per task on every read path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        task = Task.builder()
+                .id("65a4f0c2e13b2a1d9c8b4567")
+                .title("Prepare sprint review")
+                .description("Collect the demo notes and update the board before Friday")
+                .status(Task.TaskStatus.IN_PROGRESS)
+                .userId("65a4f0c2e13b2a1d9c8b0001")
+                .createdAt(now)
+                .updatedAt(now.plusHours(2))
+                .version(4L)
+                .build();
+    }
+
+    @Benchmark
+    public TaskResponseDTO mapToResponseDTO() {
+        return TaskServiceImpl.mapToResponseDTO(task);
+    }
+}
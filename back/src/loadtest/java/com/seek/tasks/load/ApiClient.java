@@ -0,0 +1,143 @@
+package com.seek.tasks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.tasks.dto.AuthResponseDTO;
+import com.seek.tasks.dto.BatchItemResultDTO;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.LoginRequestDTO;
+import com.seek.tasks.dto.RegisterRequestDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.UpdateTaskStatusDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Blocking HTTP client for the task API. Calls return the status code so the
+ * driver can count failures without exceptions on the hot path.
+ */
+final class ApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    ApiClient(int port, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    void register(VirtualUser user) throws IOException, InterruptedException {
+        RegisterRequestDTO request = RegisterRequestDTO.builder()
+                .username(user.username())
+                .password(user.password())
+                .email(user.username() + "@loadtest.local")
+                .build();
+        HttpResponse<byte[]> response = send("POST", "/api/auth/register", null, request);
+        expect(response, 201);
+        user.token(objectMapper.readValue(response.body(), AuthResponseDTO.class).getToken());
+    }
+
+    int login(VirtualUser user) throws IOException, InterruptedException {
+        LoginRequestDTO request = LoginRequestDTO.builder()
+                .username(user.username())
+                .password(user.password())
+                .build();
+        HttpResponse<byte[]> response = send("POST", "/api/auth/login", null, request);
+        if (response.statusCode() == 200) {
+            user.token(objectMapper.readValue(response.body(), AuthResponseDTO.class).getToken());
+        }
+        return response.statusCode();
+    }
+
+    int listPage(VirtualUser user, int size) throws IOException, InterruptedException {
+        return send("GET", "/api/tasks/page?size=" + size, user.token(), null).statusCode();
+    }
+
+    int search(VirtualUser user, String text, int size) throws IOException, InterruptedException {
+        String query = URLEncoder.encode(text, StandardCharsets.UTF_8);
+        return send("GET", "/api/tasks/search?q=" + query + "&size=" + size, user.token(), null).statusCode();
+    }
+
+    int create(VirtualUser user, String title) throws IOException, InterruptedException {
+        TaskRequestDTO request = TaskRequestDTO.builder()
+                .title(title)
+                .description("Created by the load test")
+                .build();
+        HttpResponse<byte[]> response = send("POST", "/api/tasks", user.token(), request);
+        if (response.statusCode() == 201) {
+            user.addTask(objectMapper.readValue(response.body(), TaskResponseDTO.class).getId());
+        }
+        return response.statusCode();
+    }
+
+    int updateStatus(VirtualUser user, String taskId, TaskStatus status) throws IOException, InterruptedException {
+        UpdateTaskStatusDTO request = UpdateTaskStatusDTO.builder().status(status).build();
+        return send("PUT", "/api/tasks/" + taskId + "/status", user.token(), request).statusCode();
+    }
+
+    int delete(VirtualUser user, String taskId) throws IOException, InterruptedException {
+        return send("DELETE", "/api/tasks/" + taskId, user.token(), null).statusCode();
+    }
+
+    /**
+     * Creates tasks through the batch endpoint and returns their ids.
+     */
+    List<String> createBatch(VirtualUser user, List<BatchOperationDTO> operations)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send("POST", "/api/tasks/batch?ordered=false", user.token(), operations);
+        expect(response, 200);
+        BatchResponseDTO batch = objectMapper.readValue(response.body(), BatchResponseDTO.class);
+        if (batch.getFailed() > 0) {
+            throw new IllegalStateException("Seeding batch for " + user.username() + " had "
+                    + batch.getFailed() + " failed operations");
+        }
+        return batch.getResults().stream()
+                .map(BatchItemResultDTO::getId)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private HttpResponse<byte[]> send(String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static void expect(HttpResponse<byte[]> response, int status) {
+        if (response.statusCode() != status) {
+            throw new UncheckedIOException(new IOException(response.request().method() + " "
+                    + response.uri().getPath() + " returned " + response.statusCode() + ": "
+                    + new String(response.body())));
+        }
+    }
+}
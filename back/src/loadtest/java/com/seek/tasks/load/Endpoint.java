@@ -0,0 +1,23 @@
+package com.seek.tasks.load;
+
+/**
+ * The operations a simulated user performs, named as they appear in mixes and reports.
+ */
+enum Endpoint {
+    LOGIN("POST /api/auth/login"),
+    LIST("GET /api/tasks/page"),
+    CREATE("POST /api/tasks"),
+    STATUS("PUT /api/tasks/{id}/status"),
+    DELETE("DELETE /api/tasks/{id}"),
+    SEARCH("GET /api/tasks/search");
+
+    private final String route;
+
+    Endpoint(String route) {
+        this.route = route;
+    }
+
+    String route() {
+        return route;
+    }
+}
@@ -0,0 +1,92 @@
+package com.seek.tasks.load;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load: a fixed number of workers each send one request, wait for
+ * the answer and immediately send the next. Workers run on virtual threads so
+ * thousands of concurrent clients cost no more than a handful.
+ */
+final class LoadDriver {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    /**
+     * Words spread over seeded titles and descriptions, so every search matches
+     * a fixed share of each user's tasks.
+     */
+    static final String[] SEARCH_WORDS = {
+            "report", "invoice", "meeting", "deploy", "review", "budget", "design", "release",
+            "customer", "backlog", "migration", "security", "onboarding", "roadmap", "audit", "training",
+            "hiring", "contract", "refactor", "dashboard", "incident", "vendor", "pricing", "launch",
+            "survey", "payroll", "backup", "newsletter", "workshop", "inventory", "forecast", "compliance"
+    };
+
+    private final ApiClient client;
+    private final List<VirtualUser> users;
+    private final LoadSettings settings;
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadDriver(ApiClient client, List<VirtualUser> users, LoadSettings settings) {
+        this.client = client;
+        this.users = users;
+        this.settings = settings;
+    }
+
+    LoadReport run(Duration duration) throws InterruptedException {
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                workers.submit(() -> work(report, deadline));
+            }
+        }
+        report.finish(Duration.ofNanos(System.nanoTime() - start));
+        return report;
+    }
+
+    private void work(LoadReport report, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            VirtualUser user = users.get(random.nextInt(users.size()));
+            Endpoint endpoint = settings.mix().next(random);
+            // Drags and deletes need a task; a user without one creates it instead
+            String taskId = switch (endpoint) {
+                case STATUS -> user.anyTask(random);
+                case DELETE -> user.takeTask(random);
+                default -> null;
+            };
+            if ((endpoint == Endpoint.STATUS || endpoint == Endpoint.DELETE) && taskId == null) {
+                endpoint = Endpoint.CREATE;
+            }
+
+            long begin = System.nanoTime();
+            int status;
+            try {
+                status = switch (endpoint) {
+                    case LOGIN -> client.login(user);
+                    case LIST -> client.listPage(user, settings.pageSize());
+                    case CREATE -> client.create(user, "Load task " + sequence.incrementAndGet());
+                    case STATUS -> client.updateStatus(user, taskId, STATUSES[random.nextInt(STATUSES.length)]);
+                    case DELETE -> client.delete(user, taskId);
+                    case SEARCH -> client.search(user, SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)],
+                            settings.pageSize());
+                };
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                status = -1;
+            }
+            report.record(endpoint, System.nanoTime() - begin, status >= 200 && status < 300);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.seek.tasks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one measured phase.
+ * Latencies are kept in microseconds with three significant digits.
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private volatile Duration elapsed = Duration.ZERO;
+
+    LoadReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(Endpoint endpoint, long nanos, boolean success) {
+        latencies.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_MICROS));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    long totalRequests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    /**
+     * Summary suitable for JSON output, one entry per exercised endpoint plus a total.
+     */
+    Map<String, Object> summary() {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        latencies.forEach((endpoint, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                endpoints.put(endpoint.name().toLowerCase(), stats(histogram, errors.get(endpoint).sum()));
+            }
+        });
+        Histogram all = new Histogram(HIGHEST_MICROS, 3);
+        latencies.values().forEach(all::add);
+        endpoints.put("total", stats(all, totalErrors()));
+        return endpoints;
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-30s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        summary().forEach((name, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> row = (Map<String, Object>) value;
+            String route = "total".equals(name) ? "total" : Endpoint.valueOf(name.toUpperCase()).route();
+            out.append(String.format("%-30s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    route, row.get("requests"), row.get("errors"), row.get("throughput"),
+                    row.get("p50"), row.get("p99"), row.get("p999"), row.get("max")));
+        });
+        return out.toString();
+    }
+
+    private Map<String, Object> stats(Histogram histogram, long errorCount) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", histogram.getTotalCount());
+        stats.put("errors", errorCount);
+        stats.put("throughput", histogram.getTotalCount() / seconds);
+        stats.put("p50", millis(histogram.getValueAtPercentile(50)));
+        stats.put("p99", millis(histogram.getValueAtPercentile(99)));
+        stats.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        stats.put("max", millis(histogram.getMaxValue()));
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
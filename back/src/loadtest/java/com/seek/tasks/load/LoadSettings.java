@@ -0,0 +1,49 @@
+package com.seek.tasks.load;
+
+import java.time.Duration;
+
+/**
+ * Load test knobs, read from {@code -Dloadtest.*} system properties so a run can be
+ * reproduced from the command line alone.
+ */
+record LoadSettings(
+        String label,
+        int users,
+        int heavyUsers,
+        int tasksPerUser,
+        int heavyUserTasks,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        TrafficMix mix,
+        int pageSize,
+        double maxErrorRate
+) {
+
+    static LoadSettings fromSystemProperties() {
+        LoadSettings settings = new LoadSettings(
+                System.getProperty("loadtest.label", "default"),
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.heavy-users", 5),
+                Integer.getInteger("loadtest.tasks-per-user", 20),
+                Integer.getInteger("loadtest.heavy-user-tasks", 20000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                TrafficMix.parse(System.getProperty("loadtest.mix", "login=5,list=40,create=20,status=25,delete=10")),
+                Integer.getInteger("loadtest.page-size", 50),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+        if (settings.heavyUsers() > settings.users()) {
+            throw new IllegalArgumentException("loadtest.heavy-users cannot exceed loadtest.users");
+        }
+        return settings;
+    }
+
+    boolean isHeavy(int userIndex) {
+        return userIndex < heavyUsers;
+    }
+
+    int initialTasks(int userIndex) {
+        return isHeavy(userIndex) ? heavyUserTasks : tasksPerUser;
+    }
+}
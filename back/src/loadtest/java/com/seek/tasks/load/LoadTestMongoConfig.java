@@ -0,0 +1,66 @@
+package com.seek.tasks.load;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.flapdoodle.embed.mongo.commands.MongodArguments;
+import de.flapdoodle.embed.mongo.config.Net;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.process.archives.ExtractedFileSet;
+import de.flapdoodle.embed.process.io.ProcessOutput;
+import de.flapdoodle.reverse.transitions.Start;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Mongo side of the load test: an optional locally installed mongod and an optional
+ * artificial command latency.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestMongoConfig {
+
+    /**
+     * Runs an installed mongod ({@code -Dloadtest.mongod-binary=/usr/bin/mongod}) instead of
+     * downloading one, for machines without internet access or distributions the embedded
+     * Mongo package resolver does not know. Set {@code loadtest.mongo-version} to its version.
+     */
+    @Bean
+    @ConditionalOnProperty("loadtest.mongod-binary")
+    Mongod installedMongod(MongodArguments mongodArguments, ProcessOutput processOutput, Net net,
+                           @Value("${loadtest.mongod-binary}") Path binary) {
+        ExtractedFileSet installed = ExtractedFileSet.builder(binary.getParent())
+                .executable(binary)
+                .build();
+        return Mongod.builder()
+                .mongodArguments(Start.to(MongodArguments.class).initializedWith(mongodArguments))
+                .net(Start.to(Net.class).initializedWith(net))
+                .processOutput(Start.to(ProcessOutput.class).initializedWith(processOutput))
+                .build()
+                .withExtractPackage(Start.to(ExtractedFileSet.class).initializedWith(installed));
+    }
+
+    /**
+     * Emulates a slow or distant Mongo with {@code -Dloadtest.mongo-latency=PT0.02S}: every
+     * command waits that long on the calling thread while holding its pooled connection,
+     * as it would on a congested network.
+     */
+    @Bean
+    @ConditionalOnProperty("loadtest.mongo-latency")
+    MongoClientSettingsBuilderCustomizer mongoLatency(@Value("${loadtest.mongo-latency}") Duration latency) {
+        return builder -> builder.addCommandListener(new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                try {
+                    Thread.sleep(latency);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package com.seek.tasks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the whole application on a random port against an embedded mongod and drives
+ * it with a weighted mix of logins, page reads, creates, status drags, deletes and searches.
+ * A few users own very large task sets. Throughput and p50/p99/p999 per endpoint are
+ * printed and written to {@code target/loadtest/<label>.json}, together with the number
+ * of Mongo operations the measured phase cost.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "de.flapdoodle.mongodb.embedded.version=${loadtest.mongo-version:7.0.4}",
+        "tasks.stats.reconcile-enabled=false",
+        "tasks.changes.enabled=false",
+        "logging.level.root=WARN",
+        "logging.level.com.seek.tasks=INFO",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.springframework.data.mongodb=WARN"
+})
+@Import(LoadTestMongoConfig.class)
+class TaskApiLoadTest {
+
+    private static final int SEEDING_THREADS = 16;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${tasks.batch.max-operations}")
+    private int batchSize;
+
+    @Test
+    void mixedTraffic_ShouldStayWithinErrorBudget() throws Exception {
+        // Arrange
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+        if (environment.acceptsProfiles(Profiles.of("reactive"))
+                && environment.containsProperty("loadtest.mongo-latency")) {
+            throw new IllegalStateException("loadtest.mongo-latency blocks driver threads and would stall "
+                    + "the reactive driver's event loop; use it in servlet mode only");
+        }
+        ApiClient client = new ApiClient(port, objectMapper);
+        List<VirtualUser> users = seed(client, settings);
+        LoadDriver driver = new LoadDriver(client, users, settings);
+
+        // Act
+        driver.run(settings.warmup());
+        Map<String, Long> before = opCounters();
+        LoadReport report = driver.run(settings.duration());
+        Map<String, Long> mongoOps = difference(before, opCounters());
+
+        // Assert
+        publish(settings, report, mongoOps);
+        assertTrue(report.totalRequests() > 0, "No requests completed");
+        assertTrue(report.errorRate() <= settings.maxErrorRate(),
+                () -> String.format("Error rate %.4f exceeds %.4f%n%s",
+                        report.errorRate(), settings.maxErrorRate(), report.render()));
+    }
+
+    private List<VirtualUser> seed(ApiClient client, LoadSettings settings) throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(new VirtualUser(String.format("load-user-%05d", i), "load-password", settings.isHeavy(i)));
+        }
+
+        List<Callable<Void>> registrations = new ArrayList<>();
+        for (VirtualUser user : users) {
+            registrations.add(() -> {
+                client.register(user);
+                return null;
+            });
+        }
+        runAll(registrations);
+
+        List<Callable<Void>> batches = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            VirtualUser user = users.get(i);
+            int remaining = settings.initialTasks(i);
+            for (int offset = 0; offset < remaining; offset += batchSize) {
+                int first = offset;
+                int count = Math.min(batchSize, remaining - offset);
+                batches.add(() -> {
+                    user.addTasks(client.createBatch(user, creates(first, count)));
+                    return null;
+                });
+            }
+        }
+        runAll(batches);
+        return users;
+    }
+
+    private static List<BatchOperationDTO> creates(int first, int count) {
+        TaskStatus[] statuses = TaskStatus.values();
+        int words = LoadDriver.SEARCH_WORDS.length;
+        List<BatchOperationDTO> operations = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            operations.add(BatchOperationDTO.builder()
+                    .type(BatchOperationDTO.OperationType.CREATE)
+                    .title("Seeded task " + i + " " + LoadDriver.SEARCH_WORDS[i % words])
+                    .description("Seeded by the load test: "
+                            + LoadDriver.SEARCH_WORDS[(i / words) % words])
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+        return operations;
+    }
+
+    private static void runAll(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SEEDING_THREADS);
+        try {
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Long> opCounters() {
+        Document status = mongoTemplate.executeCommand(new Document("serverStatus", 1));
+        Document opcounters = status.get("opcounters", Document.class);
+        Map<String, Long> counters = new LinkedHashMap<>();
+        opcounters.forEach((name, value) -> counters.put(name, ((Number) value).longValue()));
+        return counters;
+    }
+
+    private static Map<String, Long> difference(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> delta = new LinkedHashMap<>();
+        after.forEach((name, value) -> delta.put(name, value - before.getOrDefault(name, 0L)));
+        return delta;
+    }
+
+    private void publish(LoadSettings settings, LoadReport report, Map<String, Long> mongoOps) throws Exception {
+        long totalOps = mongoOps.values().stream().mapToLong(Long::longValue).sum();
+        double opsPerRequest = report.totalRequests() == 0 ? 0 : (double) totalOps / report.totalRequests();
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("label", settings.label());
+        run.put("profiles", Arrays.asList(environment.getActiveProfiles()));
+        run.put("users", settings.users());
+        run.put("heavyUsers", settings.heavyUsers());
+        run.put("heavyUserTasks", settings.heavyUserTasks());
+        run.put("concurrency", settings.concurrency());
+        run.put("duration", settings.duration().toString());
+        run.put("mix", settings.mix().toString());
+        run.put("mongoLatency", environment.getProperty("loadtest.mongo-latency", "PT0S"));
+        run.put("endpoints", report.summary());
+        Map<String, Object> mongo = new LinkedHashMap<>(mongoOps);
+        mongo.put("total", totalOps);
+        mongo.put("perRequest", opsPerRequest);
+        run.put("mongoOps", mongo);
+
+        System.out.printf("%nLoad test '%s' (profiles %s, %d workers, mix %s)%n%s", settings.label(),
+                run.get("profiles"), settings.concurrency(), settings.mix(), report.render());
+        System.out.printf("Mongo operations: %s (%.2f per request)%n%n", mongoOps, opsPerRequest);
+
+        Path output = Path.of("target", "loadtest", settings.label() + ".json");
+        Files.createDirectories(output.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), run);
+    }
+}
@@ -0,0 +1,62 @@
+package com.seek.tasks.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Relative weights of the endpoints, parsed from e.g. {@code login=5,list=40,create=20,status=25,delete=10}.
+ */
+final class TrafficMix {
+
+    private final Map<Endpoint, Integer> weights;
+    private final Endpoint[] endpoints;
+    private final int[] cumulative;
+
+    private TrafficMix(Map<Endpoint, Integer> weights) {
+        this.weights = weights;
+        this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+        this.cumulative = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    static TrafficMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected endpoint=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix '" + spec + "' has no positive weights");
+        }
+        return new TrafficMix(weights);
+    }
+
+    Endpoint next(Random random) {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (roll < cumulative[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().name().toLowerCase() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
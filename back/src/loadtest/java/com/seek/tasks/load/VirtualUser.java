@@ -0,0 +1,102 @@
+package com.seek.tasks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A registered account and the ids of the tasks it currently owns. Several workers
+ * can act for the same user at once, as with a user signed in on two devices.
+ */
+final class VirtualUser {
+
+    private final String username;
+    private final String password;
+    private final boolean heavy;
+    private final List<String> taskIds = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile String token;
+
+    VirtualUser(String username, String password, boolean heavy) {
+        this.username = username;
+        this.password = password;
+        this.heavy = heavy;
+    }
+
+    String username() {
+        return username;
+    }
+
+    String password() {
+        return password;
+    }
+
+    boolean heavy() {
+        return heavy;
+    }
+
+    String token() {
+        return token;
+    }
+
+    void token(String token) {
+        this.token = token;
+    }
+
+    void addTask(String id) {
+        lock.lock();
+        try {
+            taskIds.add(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void addTasks(List<String> ids) {
+        lock.lock();
+        try {
+            taskIds.addAll(ids);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A random owned task id, or null when the user has none.
+     */
+    String anyTask(Random random) {
+        lock.lock();
+        try {
+            return taskIds.isEmpty() ? null : taskIds.get(random.nextInt(taskIds.size()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns a random owned task id, or null when the user has none.
+     */
+    String takeTask(Random random) {
+        lock.lock();
+        try {
+            if (taskIds.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(taskIds.size());
+            String last = taskIds.remove(taskIds.size() - 1);
+            return index == taskIds.size() ? last : taskIds.set(index, last);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int taskCount() {
+        lock.lock();
+        try {
+            return taskIds.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.load.LoadTestMongoConfig;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Explains the task list query for every supported filter and sort combination
+ * against a real mongod and checks that each one is answered from an index scan
+ * without a blocking SORT stage, and that it returns the right tasks in order.
+ * The board aggregation and its column pages are held to the same rule.
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=${loadtest.mongo-version:7.0.4}")
+@Import(LoadTestMongoConfig.class)
+class TaskQueryPlanTest {
+
+    private static final String USER = "plan-user";
+    private static final int TASKS = 600;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private List<Task> seeded;
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.dropCollection(Task.class);
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        resolver.resolveIndexFor(Task.class).forEach(mongoTemplate.indexOps(Task.class)::ensureIndex);
+
+        // Raw documents, so auditing does not overwrite the timestamps. Dates use the default
+        // zone like the mapping converter does. Another user's
+        // tasks share every value to prove the userId prefix is honoured
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Document> documents = new ArrayList<>();
+        seeded = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            LocalDateTime createdAt = START.plusHours(i / 3);
+            LocalDateTime updatedAt = START.plusHours((i * 7L) % TASKS);
+            TaskStatus status = statuses[i % statuses.length];
+            for (String userId : List.of(USER, "other-user")) {
+                ObjectId id = new ObjectId();
+                documents.add(new Document("_id", id)
+                        .append("title", "Task " + i)
+                        .append("status", status.name())
+                        .append("createdAt", Date.from(createdAt.atZone(ZoneId.systemDefault()).toInstant()))
+                        .append("updatedAt", Date.from(updatedAt.atZone(ZoneId.systemDefault()).toInstant()))
+                        .append("userId", userId));
+                if (userId.equals(USER)) {
+                    seeded.add(Task.builder().id(id.toHexString()).status(status)
+                            .createdAt(createdAt).updatedAt(updatedAt).userId(userId).build());
+                }
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class)).insertMany(documents);
+    }
+
+    @ParameterizedTest
+    @MethodSource("filters")
+    void filteredList_ShouldUseAnIndexScanWithoutInMemorySort(TaskFilter filter) {
+        // Arrange
+        Query query = TaskQueries.views(USER, TaskFields.ALL, filter);
+
+        // Act
+        Document plan = winningPlan(query);
+        List<String> ids = mongoTemplate.find(query, Task.class).stream().map(Task::getId).toList();
+
+        // Assert
+        List<String> stages = new ArrayList<>();
+        collectStages(plan, stages);
+        assertTrue(stages.contains("IXSCAN"), () -> filter + " did not scan an index: " + plan.toJson());
+        assertFalse(stages.contains("SORT"), () -> filter + " sorted in memory: " + plan.toJson());
+        assertFalse(stages.contains("COLLSCAN"), () -> filter + " scanned the collection: " + plan.toJson());
+        assertEquals(expected(filter), ids, () -> filter + " returned the wrong tasks");
+    }
+
+    @Test
+    void board_ShouldReadEveryColumnHeadFromAnIndexScanWithoutInMemorySort() {
+        // Arrange
+        Aggregation board = TaskQueries.board(mongoTemplate.getCollectionName(Task.class), USER, 11)
+                .withOptions(AggregationOptions.builder().explain(true).build());
+
+        // Act
+        Document explain = mongoTemplate.aggregate(board, Task.class, Document.class).getRawResults();
+
+        // Assert: the first column is planned at the top, the others inside their $unionWith
+        List<Document> plans = new ArrayList<>();
+        findWinningPlans(explain, plans);
+        assertEquals(TaskStatus.values().length, plans.size(), () -> "Board plans: " + explain.toJson());
+        for (Document plan : plans) {
+            List<String> stages = new ArrayList<>();
+            collectStages(plan, stages);
+            assertTrue(stages.contains("IXSCAN"), () -> "Board column did not scan an index: " + plan.toJson());
+            assertFalse(stages.contains("SORT"), () -> "Board column sorted in memory: " + plan.toJson());
+        }
+    }
+
+    @Test
+    void board_ShouldReturnTheSameHeadsAsTheColumnPages() {
+        // Arrange
+        Aggregation board = TaskQueries.board(mongoTemplate.getCollectionName(Task.class), USER, 11);
+
+        // Act
+        List<TaskBoardColumn> columns = TaskQueries.toBoardColumns(
+                mongoTemplate.aggregate(board, Task.class, Task.class).getMappedResults());
+
+        // Assert
+        for (TaskBoardColumn column : columns) {
+            List<String> expected = mongoTemplate.find(TaskQueries.columnPage(USER, column.status(), null, 11), Task.class)
+                    .stream().map(Task::getId).toList();
+            assertEquals(expected, column.tasks().stream().map(Task::getId).toList(),
+                    () -> column.status() + " column has the wrong head");
+        }
+    }
+
+    @Test
+    void boardColumnPage_ShouldUseAnIndexScanWithoutInMemorySort() {
+        // Arrange
+        Task last = mongoTemplate.find(TaskQueries.columnPage(USER, TaskStatus.COMPLETED, null, 20), Task.class)
+                .get(19);
+        Query query = TaskQueries.columnPage(USER, TaskStatus.COMPLETED, TaskCursor.of(last), 20);
+
+        // Act
+        Document plan = winningPlan(query);
+
+        // Assert
+        List<String> stages = new ArrayList<>();
+        collectStages(plan, stages);
+        assertTrue(stages.contains("IXSCAN"), () -> "Column page did not scan an index: " + plan.toJson());
+        assertFalse(stages.contains("SORT"), () -> "Column page sorted in memory: " + plan.toJson());
+    }
+
+    static Stream<TaskFilter> filters() {
+        List<Set<TaskStatus>> statusSets = List.of(Set.of(), EnumSet.of(TaskStatus.TODO),
+                EnumSet.of(TaskStatus.TODO, TaskStatus.COMPLETED));
+        List<LocalDateTime[]> createdRanges = List.of(new LocalDateTime[2],
+                new LocalDateTime[]{START.plusDays(2), START.plusDays(5)});
+        List<LocalDateTime[]> updatedRanges = List.of(new LocalDateTime[2],
+                new LocalDateTime[]{START.plusHours(100), null});
+        List<TaskFilter> filters = new ArrayList<>();
+        for (Set<TaskStatus> statuses : statusSets) {
+            for (LocalDateTime[] created : createdRanges) {
+                for (LocalDateTime[] updated : updatedRanges) {
+                    for (TaskFilter.SortKey sort : TaskFilter.SortKey.values()) {
+                        for (Sort.Direction direction : Sort.Direction.values()) {
+                            filters.add(new TaskFilter(statuses, created[0], created[1],
+                                    updated[0], updated[1], sort, direction));
+                        }
+                    }
+                }
+            }
+        }
+        return filters.stream();
+    }
+
+    private Document winningPlan(Query query) {
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(Task.class);
+        Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                .find(mapper.getMappedObject(query.getQueryObject(), entity))
+                .projection(mapper.getMappedFields(query.getFieldsObject(), entity))
+                .sort(mapper.getMappedSort(query.getSortObject(), entity))
+                .explain();
+        return findWinningPlan(explain);
+    }
+
+    // The slot based engine nests the classic plan shape under queryPlan, and
+    // aggregation explains put the planner output under a $cursor stage on some versions
+    private static Document findWinningPlan(Object node) {
+        if (node instanceof Document document) {
+            if (document.containsKey("winningPlan")) {
+                Document winningPlan = document.get("winningPlan", Document.class);
+                return winningPlan.containsKey("queryPlan") ? winningPlan.get("queryPlan", Document.class) : winningPlan;
+            }
+            for (Object value : document.values()) {
+                Document found = findWinningPlan(value);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object value : list) {
+                Document found = findWinningPlan(value);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void findWinningPlans(Object node, List<Document> plans) {
+        if (node instanceof Document document) {
+            if (document.containsKey("winningPlan")) {
+                Document winningPlan = document.get("winningPlan", Document.class);
+                plans.add(winningPlan.containsKey("queryPlan") ? winningPlan.get("queryPlan", Document.class) : winningPlan);
+                return;
+            }
+            document.values().forEach(value -> findWinningPlans(value, plans));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> findWinningPlans(value, plans));
+        }
+    }
+
+    private static void collectStages(Document stage, List<String> stages) {
+        stages.add(stage.getString("stage"));
+        if (stage.containsKey("inputStage")) {
+            collectStages(stage.get("inputStage", Document.class), stages);
+        }
+        if (stage.containsKey("inputStages")) {
+            stage.getList("inputStages", Document.class).forEach(input -> collectStages(input, stages));
+        }
+    }
+
+    private List<String> expected(TaskFilter filter) {
+        Function<Task, LocalDateTime> key = filter.sort() == TaskFilter.SortKey.CREATED_AT
+                ? Task::getCreatedAt : Task::getUpdatedAt;
+        Comparator<Task> order = Comparator.comparing(key).thenComparing(task -> new ObjectId(task.getId()));
+        return seeded.stream()
+                .filter(task -> filter.statuses().isEmpty() || filter.statuses().contains(task.getStatus()))
+                .filter(task -> within(task.getCreatedAt(), filter.createdFrom(), filter.createdTo()))
+                .filter(task -> within(task.getUpdatedAt(), filter.updatedFrom(), filter.updatedTo()))
+                .sorted(filter.direction().isAscending() ? order : order.reversed())
+                .map(Task::getId)
+                .toList();
+    }
+
+    private static boolean within(LocalDateTime value, LocalDateTime from, LocalDateTime to) {
+        return (from == null || !value.isBefore(from)) && (to == null || value.isBefore(to));
+    }
+}
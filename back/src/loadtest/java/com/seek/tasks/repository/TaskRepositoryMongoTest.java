@@ -0,0 +1,132 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.load.LoadTestMongoConfig;
+import com.seek.tasks.service.TaskCursor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the repository's resumable reads against a real mongod. The query mapper and
+ * the server's type-aware comparisons only meet here: the service tests mock the
+ * repository and cannot notice a resume condition that never matches.
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=${loadtest.mongo-version:7.0.4}")
+@Import(LoadTestMongoConfig.class)
+class TaskRepositoryMongoTest {
+
+    private static final String USER = "resume-user";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void resetCollection() {
+        mongoTemplate.dropCollection(Task.class);
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        resolver.resolveIndexFor(Task.class).forEach(mongoTemplate.indexOps(Task.class)::ensureIndex);
+    }
+
+    @Test
+    void findPageByUserId_ShouldVisitEveryTaskOnceAcrossEqualAndMissingCreatedAt() {
+        // Arrange
+        // Three tasks share each timestamp and seven have none, so page boundaries fall inside ties
+        List<Task> seeded = seed(10, 3, 7);
+        List<String> expected = seeded.stream()
+                .sorted(Comparator.comparing(Task::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(task -> new ObjectId(task.getId()))
+                        .reversed())
+                .map(Task::getId)
+                .toList();
+        int pageSize = 4;
+
+        // Act
+        List<String> visited = new ArrayList<>();
+        TaskCursor after = null;
+        List<Task> page;
+        do {
+            page = taskRepository.findPageByUserId(USER, after, pageSize);
+            page.forEach(task -> visited.add(task.getId()));
+            if (!page.isEmpty()) {
+                // Through the client-facing token, as the service resumes
+                after = TaskCursor.decode(TaskCursor.of(page.get(page.size() - 1)).encode());
+            }
+        } while (page.size() == pageSize);
+
+        // Assert
+        assertEquals(visited.size(), new HashSet<>(visited).size(), "A task was returned twice");
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void streamByUserId_ShouldResumeRightAfterTheGivenTask() {
+        // Arrange
+        seed(20, 1, 5);
+        int resumeAfter = 8;
+
+        // Act
+        List<String> exported;
+        try (Stream<Task> tasks = taskRepository.streamByUserId(USER, null)) {
+            exported = tasks.map(Task::getId).toList();
+        }
+        List<String> resumed;
+        try (Stream<Task> tasks = taskRepository.streamByUserId(USER, exported.get(resumeAfter - 1))) {
+            resumed = tasks.map(Task::getId).toList();
+        }
+
+        // Assert
+        assertEquals(25, exported.size());
+        assertEquals(exported.subList(resumeAfter, exported.size()), resumed);
+    }
+
+    /**
+     * Inserts raw documents, so auditing does not overwrite the timestamps. Each user task
+     * has a twin owned by another user with the same values.
+     */
+    private List<Task> seed(int timestamps, int perTimestamp, int undated) {
+        List<Document> documents = new ArrayList<>();
+        List<Task> seeded = new ArrayList<>();
+        for (int i = 0; i < timestamps * perTimestamp + undated; i++) {
+            LocalDateTime createdAt = i < timestamps * perTimestamp ? START.plusMinutes(i / perTimestamp) : null;
+            for (String userId : List.of(USER, "other-user")) {
+                ObjectId id = new ObjectId();
+                Document document = new Document("_id", id)
+                        .append("title", "Task " + i)
+                        .append("status", Task.TaskStatus.TODO.name())
+                        .append("userId", userId);
+                if (createdAt != null) {
+                    document.append("createdAt", Date.from(createdAt.atZone(ZoneId.systemDefault()).toInstant()));
+                }
+                documents.add(document);
+                if (userId.equals(USER)) {
+                    seeded.add(Task.builder().id(id.toHexString()).createdAt(createdAt).userId(userId).build());
+                }
+            }
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class)).insertMany(documents);
+        return seeded;
+    }
+}
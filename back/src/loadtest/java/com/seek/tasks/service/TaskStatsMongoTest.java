@@ -0,0 +1,100 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import com.seek.tasks.load.LoadTestMongoConfig;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Writes and then reads the counters of users whose tasks predate them, against a real
+ * mongod. The first counted write has to start from the user's existing tasks, not
+ * from its own delta.
+ */
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=${loadtest.mongo-version:7.0.4}")
+@Import({LoadTestMongoConfig.class, TaskServiceImpl.class, TaskStatsServiceImpl.class, LocalValidatorFactoryBean.class})
+class TaskStatsMongoTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    private String userId;
+
+    // A fresh user per test: the service remembers users it has seeded for its lifetime
+    @BeforeEach
+    void resetCollections() {
+        mongoTemplate.dropCollection(Task.class);
+        mongoTemplate.dropCollection(TaskStats.class);
+        userId = "stats-user-" + new ObjectId().toHexString();
+    }
+
+    @Test
+    void createTask_ForUserWithTasksButNoCounters_ShouldCountTheExistingTasks() {
+        // Arrange
+        seed(TaskStatus.TODO, TaskStatus.TODO, TaskStatus.COMPLETED);
+
+        // Act
+        taskService.createTask(TaskRequestDTO.builder().title("New").build(), userId);
+        TaskStatsDTO stats = taskService.getTaskStats(userId);
+
+        // Assert
+        assertEquals(4, stats.getTotal());
+        assertEquals(3, stats.getTodo());
+        assertEquals(0, stats.getInProgress());
+        assertEquals(1, stats.getCompleted());
+    }
+
+    @Test
+    void updateTaskStatus_ForUserWithTasksButNoCounters_ShouldMoveOneExistingTask() {
+        // Arrange
+        List<String> ids = seed(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS);
+
+        // Act
+        taskService.updateTaskStatus(ids.get(0), TaskStatus.COMPLETED, userId, null);
+        taskService.deleteTask(ids.get(1), userId, null);
+        TaskStatsDTO stats = taskService.getTaskStats(userId);
+
+        // Assert
+        assertEquals(2, stats.getTotal());
+        assertEquals(0, stats.getTodo());
+        assertEquals(1, stats.getInProgress());
+        assertEquals(1, stats.getCompleted());
+    }
+
+    /**
+     * Inserts raw task documents, as tasks written before the counters existed would be.
+     */
+    private List<String> seed(TaskStatus... statuses) {
+        List<Document> documents = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (TaskStatus status : statuses) {
+            ObjectId id = new ObjectId();
+            documents.add(new Document("_id", id)
+                    .append("title", "Task " + ids.size())
+                    .append("status", status.name())
+                    .append("userId", userId)
+                    .append("version", 0L));
+            ids.add(id.toHexString());
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class)).insertMany(documents);
+        return ids;
+    }
+}
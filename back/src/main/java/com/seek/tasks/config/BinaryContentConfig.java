@@ -0,0 +1,117 @@
+package com.seek.tasks.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * next to JSON, chosen per request by {@code Accept} and {@code Content-Type}.
+ * The framework would register both on its own, but with plain mappers; these
+ * are built from Spring Boot's builder so dates and the other {@code spring.jackson.*}
+ * settings come out exactly as in JSON.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryContentConfig {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).build();
+    }
+
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new SmileFactory()).build();
+    }
+
+    // Converter beans replace the framework's default converters of the same type
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+
+        @Bean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+        }
+
+        @Bean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        @Bean
+        public CodecCustomizer binaryCodecCustomizer(ObjectMapper objectMapper,
+                                                     Jackson2ObjectMapperBuilder cborBuilder,
+                                                     Jackson2ObjectMapperBuilder smileBuilder) {
+            ObjectMapper cbor = cborMapper(cborBuilder);
+            ObjectMapper smile = smileMapper(smileBuilder);
+            return configurer -> {
+                // Codecs given a mapper fall back to the JSON media types unless told otherwise
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile, APPLICATION_SMILE));
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, APPLICATION_SMILE));
+                // CBOR has no default slot. Custom codecs are consulted before the defaults and
+                // the first writer wins an Accept of */*, so JSON goes in ahead of CBOR.
+                CodecConfigurer.CustomCodecs codecs = configurer.customCodecs();
+                codecs.registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper));
+                codecs.registerWithDefaultConfig(new Jackson2JsonDecoder(objectMapper));
+                codecs.registerWithDefaultConfig(new CborListEncoder(cbor));
+                codecs.registerWithDefaultConfig(new Jackson2CborDecoder(cbor, MediaType.APPLICATION_CBOR));
+            };
+        }
+    }
+
+    /**
+     * CBOR has no framing for a stream of values, so the framework's encoder only
+     * takes single values. A list body is collected and written as one array,
+     * the way the JSON encoder writes it.
+     */
+    static final class CborListEncoder extends Jackson2CborEncoder {
+
+        CborListEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream)
+                    .collectList()
+                    .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                    .flux();
+        }
+    }
+}
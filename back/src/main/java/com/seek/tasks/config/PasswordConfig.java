@@ -0,0 +1,34 @@
+package com.seek.tasks.config;
+
+import com.seek.tasks.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+@Configuration
+public class PasswordConfig {
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int strength;
+
+    @Value("${security.password.pool.threads:0}")
+    private int threads;
+
+    @Value("${security.password.pool.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.pool.timeout:PT5S}")
+    private Duration timeout;
+
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        // BCrypt is CPU bound; by default half the cores hash and the rest serve everything else
+        int poolThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), strength, poolThreads,
+                queueCapacity, timeout, meterRegistry);
+    }
+}
@@ -0,0 +1,133 @@
+package com.seek.tasks.config;
+
+import com.seek.tasks.entity.User;
+import com.seek.tasks.repository.ReactiveUserRepository;
+import com.seek.tasks.security.CredentialsVersionRegistry;
+import com.seek.tasks.security.JwtAuthenticationWebFilter;
+import com.seek.tasks.security.JwtTokenProvider;
+import com.seek.tasks.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+/**
+ * Security for the reactive deployment mode: the same public and protected
+ * routes as {@link SecurityConfig}, with the JWT check running as a WebFilter.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService() {
+        return username -> userRepository.findByUsername(username).cast(UserDetails.class);
+    }
+
+    // Rehashes on login when the stored hash's cost differs from the configured one
+    @Bean
+    public ReactiveUserDetailsPasswordService reactiveUserDetailsPasswordService() {
+        return (user, newPassword) -> userRepository.updatePassword(user.getUsername(), newPassword)
+                .map(updated -> {
+                    if (updated && user instanceof User entity) {
+                        entity.setPassword(newPassword);
+                    }
+                    return user;
+                })
+                .onErrorReturn(user);
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager() {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(reactiveUserDetailsService());
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setUserDetailsPasswordService(reactiveUserDetailsPasswordService());
+        return authenticationManager;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        JwtAuthenticationWebFilter jwtAuthenticationWebFilter = new JwtAuthenticationWebFilter(
+                tokenProvider, userRepository, principalCache, credentialsVersionRegistry, statelessPrincipal,
+                meterRegistry);
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+                // Stateless: nothing is stored between requests
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // Same answer as the servlet chain's default entry point for a missing or bad token
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(auth -> auth
+                        // Public endpoints
+                        .pathMatchers("/api/auth/revoke").authenticated()
+                        .pathMatchers("/api/auth/**").permitAll()
+                        .pathMatchers(
+                                "/swagger-ui/**",
+                                "/swagger-ui.html",
+                                "/v3/api-docs/**",
+                                "/api-docs/**",
+                                "/swagger-resources/**",
+                                "/webjars/**"
+                        ).permitAll()
+                        .pathMatchers("/actuator/**").permitAll()
+                        // Protected endpoints
+                        .pathMatchers("/api/tasks/**").authenticated()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", SecurityConfig.corsConfiguration());
+        return source;
+    }
+}
@@ -0,0 +1,33 @@
+package com.seek.tasks.config;
+
+import com.seek.tasks.service.TaskChangeFeed;
+import com.seek.tasks.service.TaskChangeStreamWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * The task change feed behind {@code GET /api/tasks/stream}. The blocking
+ * template exists in both deployment modes, so both share one watcher.
+ */
+@Configuration
+public class TaskChangesConfig {
+
+    @Bean
+    public TaskChangeFeed taskChangeFeed(MeterRegistry meterRegistry) {
+        return new TaskChangeFeed(meterRegistry);
+    }
+
+    // Without it the stream endpoint stays up and only sends heartbeats
+    @Bean
+    @ConditionalOnProperty(name = "tasks.changes.enabled", havingValue = "true", matchIfMissing = true)
+    public TaskChangeStreamWatcher taskChangeStreamWatcher(
+            MongoTemplate mongoTemplate,
+            TaskChangeFeed taskChangeFeed,
+            @Value("${tasks.changes.post-images:false}") boolean postImages) {
+        return new TaskChangeStreamWatcher(mongoTemplate, taskChangeFeed, postImages);
+    }
+}
@@ -3,20 +3,25 @@ package com.seek.tasks.controller;
 import com.seek.tasks.dto.AuthResponseDTO;
 import com.seek.tasks.dto.LoginRequestDTO;
 import com.seek.tasks.dto.RegisterRequestDTO;
+import com.seek.tasks.entity.User;
 import com.seek.tasks.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Authentication and Registration endpoints")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -49,4 +54,17 @@ public class AuthController {
         AuthResponseDTO response = authService.login(loginRequest);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/revoke")
+    @Operation(summary = "Revoke all tokens",
+            description = "Invalidates every token issued so far to the authenticated user, including the current one")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<Void> revokeTokens(@AuthenticationPrincipal User user) {
+        authService.revokeTokens(user.getId());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,51 @@
+package com.seek.tasks.controller;
+
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.service.TaskChangeSubscriber;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Reactive side of a change feed connection: a unicast sink over a bounded
+ * queue, drained by Netty as the client reads. Emission is synchronized because
+ * the change stream and the heartbeat call in from different threads.
+ */
+final class FluxTaskChangeSubscriber implements TaskChangeSubscriber {
+
+    private final Sinks.Many<ServerSentEvent<TaskChangeEventDTO>> sink;
+
+    FluxTaskChangeSubscriber(int bufferSize) {
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(
+                Queues.<ServerSentEvent<TaskChangeEventDTO>>get(bufferSize).get());
+    }
+
+    Flux<ServerSentEvent<TaskChangeEventDTO>> events() {
+        return sink.asFlux();
+    }
+
+    @Override
+    public boolean offer(TaskChangeEventDTO event) {
+        return emit(ServerSentEvent.builder(event)
+                .event(event.getType().name().toLowerCase())
+                .build());
+    }
+
+    @Override
+    public boolean offerHeartbeat() {
+        return emit(ServerSentEvent.<TaskChangeEventDTO>builder().comment("heartbeat").build());
+    }
+
+    @Override
+    public synchronized void evict() {
+        sink.tryEmitComplete();
+    }
+
+    private synchronized boolean emit(ServerSentEvent<TaskChangeEventDTO> event) {
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        // A cancelled connection is not slow; the feed forgets it through doFinally
+        return result.isSuccess() || result == Sinks.EmitResult.FAIL_CANCELLED
+                || result == Sinks.EmitResult.FAIL_TERMINATED;
+    }
+}
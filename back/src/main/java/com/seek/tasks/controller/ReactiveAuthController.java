@@ -0,0 +1,55 @@
+package com.seek.tasks.controller;
+
+import com.seek.tasks.dto.AuthResponseDTO;
+import com.seek.tasks.dto.LoginRequestDTO;
+import com.seek.tasks.dto.RegisterRequestDTO;
+import com.seek.tasks.entity.User;
+import com.seek.tasks.service.ReactiveAuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * The authentication API of {@link AuthController} on WebFlux, active in the
+ * reactive deployment mode.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/auth")
+@Tag(name = "Authentication", description = "Authentication and Registration endpoints")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveAuthController {
+
+    @Autowired
+    private ReactiveAuthService authService;
+
+    @PostMapping("/register")
+    @Operation(summary = "Register a new user", description = "Creates a new user account and returns a JWT token")
+    public Mono<ResponseEntity<AuthResponseDTO>> register(@Valid @RequestBody RegisterRequestDTO registerRequest) {
+        return authService.register(registerRequest)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @PostMapping("/login")
+    @Operation(summary = "Login user", description = "Authenticates a user and returns a JWT token")
+    public Mono<ResponseEntity<AuthResponseDTO>> login(@Valid @RequestBody LoginRequestDTO loginRequest) {
+        return authService.login(loginRequest).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/revoke")
+    @Operation(summary = "Revoke all tokens",
+            description = "Invalidates every token issued so far to the authenticated user, including the current one")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public Mono<ResponseEntity<Void>> revokeTokens(@AuthenticationPrincipal User user) {
+        return authService.revokeTokens(user.getId())
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,352 @@
+package com.seek.tasks.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.dto.UpdateTaskStatusDTO;
+import com.seek.tasks.entity.User;
+import com.seek.tasks.exception.BatchTooLargeException;
+import com.seek.tasks.exception.InvalidBatchException;
+import com.seek.tasks.service.ReactiveTaskService;
+import com.seek.tasks.service.TaskChangeFeed;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.seek.tasks.controller.TaskETags.REVALIDATE;
+import static com.seek.tasks.controller.TaskETags.collectionETag;
+import static com.seek.tasks.controller.TaskETags.eTag;
+import static com.seek.tasks.controller.TaskETags.parseIfMatch;
+import static com.seek.tasks.controller.TaskETags.toEpochMilli;
+
+/**
+ * The task API of {@link TaskController} on WebFlux, active in the reactive
+ * deployment mode. Routes, status codes, headers and bodies are identical.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/tasks")
+@Tag(name = "Tasks", description = "Task management endpoints")
+@SecurityRequirement(name = "Bearer Authentication")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReactiveTaskController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    // Tasks serialized into one buffer; flushing per task would defeat compression
+    private static final int EXPORT_CHUNK_SIZE = 256;
+
+    @Autowired
+    private ReactiveTaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Value("${tasks.batch.max-operations:500}")
+    private int maxOperations;
+
+    @Value("${tasks.changes.buffer-size:256}")
+    private int changeBufferSize;
+
+    @Value("${tasks.changes.connection-timeout:PT30M}")
+    private Duration changeConnectionTimeout;
+
+    @GetMapping
+    @Operation(summary = "Get all tasks", description = "Retrieves all tasks for the authenticated user. "
+            + "Pass 'fields' to receive only some fields of each task, e.g. fields=title,status for a board. "
+            + "Filter by status and created/updated ranges and order by createdAt or updatedAt, e.g. "
+            + "status=TODO,IN_PROGRESS&updatedFrom=2024-01-01T00:00:00&sort=updatedAt&direction=desc")
+    public Mono<ResponseEntity<Flux<?>>> getAllTasks(
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String createdFrom,
+            @RequestParam(required = false) String createdTo,
+            @RequestParam(required = false) String updatedFrom,
+            @RequestParam(required = false) String updatedTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        TaskFields selected = TaskFields.parse(fields);
+        TaskFilter filter = TaskFilter.parse(status, createdFrom, createdTo, updatedFrom, updatedTo, sort, direction);
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> {
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    Flux<TaskResponseDTO> tasks = taskService.getAllTasksForUser(user.getId(), selected, filter);
+                    return Mono.just(ResponseEntity.ok(selected.isAll() ? tasks : tasks.map(selected::select)));
+                });
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tasks",
+            description = "Retrieves the authenticated user's tasks newest first, one page at a time")
+    public Mono<ResponseEntity<TaskPageResponseDTO>> getTasksPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> notModified
+                        ? Mono.empty()
+                        : taskService.getTasksPage(user.getId(), cursor, size).map(ResponseEntity::ok));
+    }
+
+    @GetMapping("/board")
+    @Operation(summary = "Get the task board",
+            description = "Retrieves the newest tasks of each status and the number of tasks per status "
+                    + "in one aggregation")
+    public Mono<ResponseEntity<TaskBoardDTO>> getBoard(
+            @RequestParam(required = false) Integer perColumn,
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> notModified
+                        ? Mono.empty()
+                        : taskService.getBoard(user.getId(), perColumn).map(ResponseEntity::ok));
+    }
+
+    @GetMapping("/board/column")
+    @Operation(summary = "Load more of a board column",
+            description = "Retrieves the tasks following a board column's nextCursor, in the same order")
+    public Mono<ResponseEntity<TaskPageResponseDTO>> getBoardColumn(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> notModified
+                        ? Mono.empty()
+                        : taskService.getBoardColumn(user.getId(), cursor, size).map(ResponseEntity::ok));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks",
+            description = "Full-text search over the authenticated user's task titles and descriptions, "
+                    + "best match first")
+    public Mono<ResponseEntity<TaskSearchResponseDTO>> searchTasks(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> notModified
+                        ? Mono.empty()
+                        : taskService.searchTasks(user.getId(), q, page, size).map(ResponseEntity::ok));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes since a sync cursor",
+            description = "Returns tasks created or updated and ids of tasks deleted after 'since', oldest first")
+    public Mono<ResponseEntity<TaskChangesDTO>> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user) {
+        return taskService.getChangesSince(user.getId(), since, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get task statistics",
+            description = "Returns the authenticated user's task counts in total and per status")
+    public Mono<ResponseEntity<TaskStatsDTO>> getTaskStats(
+            @AuthenticationPrincipal User user,
+            ServerWebExchange exchange) {
+        return collectionNotModified(exchange, user.getId())
+                .flatMap(notModified -> notModified
+                        ? Mono.empty()
+                        : taskService.getTaskStats(user.getId()).map(ResponseEntity::ok));
+    }
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all tasks",
+            description = "Streams every task of the authenticated user as newline-delimited JSON in id order")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportTasks(
+            @RequestParam(required = false) String after,
+            @AuthenticationPrincipal User user) {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+        // An error before the first chunk, such as a bad resume position, still gets an error response
+        Flux<DataBuffer> body = taskService.streamTasksForUser(user.getId(), after)
+                .buffer(EXPORT_CHUNK_SIZE)
+                .map(chunk -> toNdjson(writer, chunk));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes",
+            description = "Server-Sent Events with every create, update and delete of the authenticated user's tasks")
+    public Flux<ServerSentEvent<TaskChangeEventDTO>> streamTaskChanges(@AuthenticationPrincipal User user) {
+        return Flux.defer(() -> {
+            FluxTaskChangeSubscriber subscriber = new FluxTaskChangeSubscriber(changeBufferSize);
+            Runnable unsubscribe = taskChangeFeed.subscribe(user.getId(), subscriber);
+            return subscriber.events()
+                    .take(changeConnectionTimeout)
+                    .doFinally(signal -> unsubscribe.run());
+        });
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Run a batch of task operations",
+            description = "Applies a list of CREATE, UPDATE, STATUS and DELETE operations in one database round trip")
+    public Mono<ResponseEntity<BatchResponseDTO>> executeBatch(
+            @RequestParam(defaultValue = "true") boolean ordered,
+            @RequestBody Flux<BatchOperationDTO> body,
+            @AuthenticationPrincipal User user) {
+        // Elements are decoded as they arrive; one past the limit is enough to reject the batch
+        return body.take(maxOperations + 1L)
+                .onErrorMap(ServerWebInputException.class,
+                        ex -> new InvalidBatchException("Malformed batch body: " + ex.getReason()))
+                .collectList()
+                .flatMap(operations -> {
+                    if (operations.size() > maxOperations) {
+                        return Mono.error(new BatchTooLargeException(maxOperations));
+                    }
+                    if (operations.isEmpty()) {
+                        return Mono.error(new InvalidBatchException("Batch must contain at least one operation"));
+                    }
+                    return taskService.executeBatch(operations, ordered, user.getId());
+                })
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get task by ID", description = "Retrieves a specific task by its ID")
+    public Mono<ResponseEntity<TaskResponseDTO>> getTaskById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal User user) {
+        // With ETag and Last-Modified on the entity, WebFlux answers If-None-Match with 304 itself
+        return taskService.getTaskById(id, user.getId()).map(task -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).eTag(eTag(task, accept));
+            if (task.getUpdatedAt() != null) {
+                response.lastModified(toEpochMilli(task.getUpdatedAt()));
+            }
+            return response.body(task);
+        });
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new task", description = "Creates a new task for the authenticated user")
+    public Mono<ResponseEntity<TaskResponseDTO>> createTask(
+            @Valid @RequestBody TaskRequestDTO taskRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal User user) {
+        return taskService.createTask(taskRequest, user.getId())
+                .map(task -> ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(task, accept)).body(task));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update a task", description = "Updates all fields of an existing task")
+    public Mono<ResponseEntity<TaskResponseDTO>> updateTask(
+            @PathVariable String id,
+            @Valid @RequestBody TaskRequestDTO taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal User user) {
+        return Mono.defer(() -> taskService.updateTask(id, taskRequest, user.getId(), parseIfMatch(ifMatch)))
+                .map(task -> ResponseEntity.ok().eTag(eTag(task, accept)).body(task));
+    }
+
+    @PutMapping("/{id}/status")
+    @Operation(summary = "Update task status", description = "Updates only the status of a task")
+    public Mono<ResponseEntity<TaskResponseDTO>> updateTaskStatus(
+            @PathVariable String id,
+            @Valid @RequestBody UpdateTaskStatusDTO statusUpdate,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal User user) {
+        return Mono.defer(() -> taskService.updateTaskStatus(
+                        id, statusUpdate.getStatus(), user.getId(), parseIfMatch(ifMatch)))
+                .map(task -> ResponseEntity.ok().eTag(eTag(task, accept)).body(task));
+    }
+
+    @PatchMapping("/{id}/complete")
+    @Operation(summary = "Mark task as completed", description = "Marks a task as completed")
+    public Mono<ResponseEntity<TaskResponseDTO>> markTaskAsCompleted(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal User user) {
+        return Mono.defer(() -> taskService.markTaskAsCompleted(id, user.getId(), parseIfMatch(ifMatch)))
+                .map(task -> ResponseEntity.ok().eTag(eTag(task, accept)).body(task));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a task", description = "Deletes a task by its ID")
+    public Mono<ResponseEntity<Void>> deleteTask(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal User user) {
+        return Mono.defer(() -> taskService.deleteTask(id, user.getId(), parseIfMatch(ifMatch)))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // Same contract as TaskController#collectionNotModified
+    private Mono<Boolean> collectionNotModified(ServerWebExchange exchange, String userId) {
+        return taskService.getCollectionVersion(userId).map(version -> {
+            exchange.getResponse().getHeaders().setCacheControl(REVALIDATE);
+            exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            String accept = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
+            return exchange.checkNotModified(collectionETag(userId, version, accept),
+                    Instant.ofEpochMilli(toEpochMilli(version.lastModified())));
+        });
+    }
+
+    private DataBuffer toNdjson(ObjectWriter writer, List<TaskResponseDTO> chunk) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(chunk.size() * 256);
+        try (OutputStream out = buffer.asOutputStream()) {
+            for (TaskResponseDTO task : chunk) {
+                writer.writeValue(out, task);
+                out.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer;
+    }
+}
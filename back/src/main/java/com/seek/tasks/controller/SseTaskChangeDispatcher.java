@@ -0,0 +1,31 @@
+package com.seek.tasks.controller;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the drains of servlet change feed connections. Writes to the response
+ * block on slow clients, so each drain gets a cheap virtual thread. Not an
+ * {@link java.util.concurrent.Executor} bean, which would replace Spring
+ * Boot's application task executor.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class SseTaskChangeDispatcher {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    void execute(Runnable drain) {
+        executor.execute(drain);
+    }
+
+    // The web server has closed its connections by now; interrupt any drain still blocked on one
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
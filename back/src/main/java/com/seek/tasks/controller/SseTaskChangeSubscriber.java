@@ -0,0 +1,89 @@
+package com.seek.tasks.controller;
+
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.service.TaskChangeSubscriber;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servlet side of a change feed connection. Events wait in a bounded queue and
+ * are written by a drain task that only exists while there is something to
+ * send, so an idle connection holds no thread. Writes to the response block,
+ * which is why they never happen on the caller's thread.
+ */
+final class SseTaskChangeSubscriber implements TaskChangeSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEventBuilder> buffer;
+    private final Executor dispatcher;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean evicted;
+
+    SseTaskChangeSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public boolean offer(TaskChangeEventDTO event) {
+        return enqueue(SseEmitter.event()
+                .name(event.getType().name().toLowerCase())
+                .data(event));
+    }
+
+    @Override
+    public boolean offerHeartbeat() {
+        return enqueue(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void evict() {
+        evicted = true;
+        buffer.clear();
+        schedule();
+    }
+
+    private boolean enqueue(SseEventBuilder event) {
+        if (!buffer.offer(event)) {
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            if (evicted) {
+                emitter.complete();
+                return;
+            }
+            SseEventBuilder event;
+            while (!evicted && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away; completion callbacks unsubscribe the connection
+            emitter.completeWithError(ex);
+            return;
+        } finally {
+            draining.set(false);
+        }
+        // Events offered after the last poll but before the flag was cleared
+        if (evicted || !buffer.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -1,11 +1,29 @@
 package com.seek.tasks.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
 import com.seek.tasks.dto.TaskRequestDTO;
 import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
 import com.seek.tasks.dto.UpdateTaskStatusDTO;
 import com.seek.tasks.entity.User;
+import com.seek.tasks.service.TaskBatchReader;
+import com.seek.tasks.service.TaskChangeFeed;
+import com.seek.tasks.service.TaskCollectionVersion;
+import com.seek.tasks.service.TaskExport;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
 import com.seek.tasks.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,32 +32,303 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static com.seek.tasks.controller.TaskETags.REVALIDATE;
+import static com.seek.tasks.controller.TaskETags.collectionETag;
+import static com.seek.tasks.controller.TaskETags.eTag;
+import static com.seek.tasks.controller.TaskETags.parseIfMatch;
+import static com.seek.tasks.controller.TaskETags.toEpochMilli;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/tasks")
 @Tag(name = "Tasks", description = "Task management endpoints")
 @SecurityRequirement(name = "Bearer Authentication")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class TaskController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBatchReader taskBatchReader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Value("${tasks.changes.buffer-size:256}")
+    private int changeBufferSize;
+
+    @Value("${tasks.changes.connection-timeout:PT30M}")
+    private Duration changeConnectionTimeout;
+
+    @Autowired
+    private SseTaskChangeDispatcher changeDispatcher;
+
     @GetMapping
-    @Operation(summary = "Get all tasks", description = "Retrieves all tasks for the authenticated user")
+    @Operation(summary = "Get all tasks", description = "Retrieves all tasks for the authenticated user. "
+            + "Pass 'fields' to receive only some fields of each task, e.g. fields=title,status for a board. "
+            + "Filter by status and created/updated ranges and order by createdAt or updatedAt, e.g. "
+            + "status=TODO,IN_PROGRESS&updatedFrom=2024-01-01T00:00:00&sort=updatedAt&direction=desc")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskResponseDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested or invalid filter"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
     })
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(@AuthenticationPrincipal User user) {
-        List<TaskResponseDTO> tasks = taskService.getAllTasksForUser(user.getId());
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<?>> getAllTasks(
+            @Parameter(description = "Comma-separated fields to return; id is always included")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma-separated statuses to include")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Inclusive lower bound on createdAt, ISO-8601 UTC")
+            @RequestParam(required = false) String createdFrom,
+            @Parameter(description = "Exclusive upper bound on createdAt, ISO-8601 UTC")
+            @RequestParam(required = false) String createdTo,
+            @Parameter(description = "Inclusive lower bound on updatedAt, ISO-8601 UTC")
+            @RequestParam(required = false) String updatedFrom,
+            @Parameter(description = "Exclusive upper bound on updatedAt, ISO-8601 UTC")
+            @RequestParam(required = false) String updatedTo,
+            @Parameter(description = "createdAt or updatedAt; filtered lists default to createdAt")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "asc or desc; defaults to desc")
+            @RequestParam(required = false) String direction,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        TaskFields selected = TaskFields.parse(fields);
+        TaskFilter filter = TaskFilter.parse(status, createdFrom, createdTo, updatedFrom, updatedTo, sort, direction);
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        List<TaskResponseDTO> tasks = taskService.getAllTasksForUser(user.getId(), selected, filter);
+        return ResponseEntity.ok(selected.selectAll(tasks));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tasks",
+            description = "Retrieves the authenticated user's tasks newest first, one page at a time. "
+                    + "Pass the returned nextCursor to fetch the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskPageResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid continuation token"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskPageResponseDTO> getTasksPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        TaskPageResponseDTO page = taskService.getTasksPage(user.getId(), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/board")
+    @Operation(summary = "Get the task board",
+            description = "Retrieves the newest tasks of each status and the number of tasks per status "
+                    + "in one aggregation. Pass a column's nextCursor to /board/column to load more of it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Board retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskBoardDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskBoardDTO> getBoard(
+            @Parameter(description = "Tasks per column") @RequestParam(required = false) Integer perColumn,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        TaskBoardDTO board = taskService.getBoard(user.getId(), perColumn);
+        return ResponseEntity.ok(board);
+    }
+
+    @GetMapping("/board/column")
+    @Operation(summary = "Load more of a board column",
+            description = "Retrieves the tasks following a board column's nextCursor, in the same order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskPageResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid column cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskPageResponseDTO> getBoardColumn(
+            @Parameter(description = "nextCursor of the column") @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        TaskPageResponseDTO page = taskService.getBoardColumn(user.getId(), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks",
+            description = "Full-text search over the authenticated user's task titles and descriptions, "
+                    + "best match first. Words match on their stem, e.g. 'report' also finds 'reports'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskSearchResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Missing or too long search text"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskSearchResponseDTO> searchTasks(
+            @Parameter(description = "Words to search for") @RequestParam(required = false) String q,
+            @Parameter(description = "Zero-based page number") @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        TaskSearchResponseDTO results = taskService.searchTasks(user.getId(), q, page, size);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get task changes since a sync cursor",
+            description = "Returns tasks created or updated and ids of tasks deleted after 'since', oldest first. "
+                    + "Omit 'since' for a full sync, then pass the returned nextCursor on the next call. "
+                    + "A change may be sent twice, so apply them idempotently")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskChangesDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid sync cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "410", description = "Cursor older than the deletion history; "
+                    + "sync again without 'since'")
+    })
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal User user) {
+        TaskChangesDTO changes = taskService.getChangesSince(user.getId(), since, size);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get task statistics",
+            description = "Returns the authenticated user's task counts in total and per status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskStatsDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<TaskStatsDTO> getTaskStats(
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        if (collectionNotModified(webRequest, user.getId())) {
+            return null;
+        }
+        TaskStatsDTO stats = taskService.getTaskStats(user.getId());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all tasks",
+            description = "Streams every task of the authenticated user as newline-delimited JSON in id order. "
+                    + "After a dropped connection, pass the id of the last received task as 'after' to resume")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "400", description = "Invalid resume position"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) String after,
+            @AuthenticationPrincipal User user) {
+        String resumeAfter = TaskExport.resumeAfter(after);
+
+        // One generator per line, without closing or flushing the response: the
+        // servlet buffer decides when bytes go out, which keeps gzip effective
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        // The cursor opens only once the body runs, so a request that never gets that far leaves none behind
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<TaskResponseDTO> tasks = taskService.streamTasksForUser(user.getId(), resumeAfter)) {
+                for (TaskResponseDTO task : (Iterable<TaskResponseDTO>) tasks::iterator) {
+                    writer.writeValue(outputStream, task);
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes",
+            description = "Server-Sent Events with every create, update and delete of the authenticated user's tasks, "
+                    + "named created, updated and deleted. Connections that fall behind are closed; reconnect and "
+                    + "reload the list to catch up")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public SseEmitter streamTaskChanges(@AuthenticationPrincipal User user) {
+        SseEmitter emitter = new SseEmitter(changeConnectionTimeout.toMillis());
+        Runnable unsubscribe = taskChangeFeed.subscribe(user.getId(),
+                new SseTaskChangeSubscriber(emitter, changeBufferSize, changeDispatcher::execute));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Run a batch of task operations",
+            description = "Applies a list of CREATE, UPDATE, STATUS and DELETE operations in one database round trip. "
+                    + "An ordered batch stops at the first failing operation; an unordered one attempts them all")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = BatchOperationDTO.class))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed batch body"),
+            @ApiResponse(responseCode = "413", description = "Too many operations in the batch"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<BatchResponseDTO> executeBatch(
+            @RequestParam(defaultValue = "true") boolean ordered,
+            @Parameter(hidden = true) InputStream body,
+            @AuthenticationPrincipal User user) {
+        List<BatchOperationDTO> operations = taskBatchReader.read(body);
+        BatchResponseDTO response = taskService.executeBatch(operations, ordered, user.getId());
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
@@ -47,14 +336,21 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task found",
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TaskResponseDTO> getTaskById(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal User user) {
         TaskResponseDTO task = taskService.getTaskById(id, user.getId());
-        return ResponseEntity.ok(task);
+        // With ETag and Last-Modified on the entity, Spring answers If-None-Match with 304 itself
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).eTag(eTag(task, accept));
+        if (task.getUpdatedAt() != null) {
+            response.lastModified(toEpochMilli(task.getUpdatedAt()));
+        }
+        return response.body(task);
     }
 
     @PostMapping
@@ -67,9 +363,10 @@ public class TaskController {
     })
     public ResponseEntity<TaskResponseDTO> createTask(
             @Valid @RequestBody TaskRequestDTO taskRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal User user) {
         TaskResponseDTO createdTask = taskService.createTask(taskRequest, user.getId());
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag(createdTask, accept)).body(createdTask);
     }
 
     @PutMapping("/{id}")
@@ -79,14 +376,17 @@ public class TaskController {
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the version in If-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TaskResponseDTO> updateTask(
             @PathVariable String id,
             @Valid @RequestBody TaskRequestDTO taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal User user) {
-        TaskResponseDTO updatedTask = taskService.updateTask(id, taskRequest, user.getId());
-        return ResponseEntity.ok(updatedTask);
+        TaskResponseDTO updatedTask = taskService.updateTask(id, taskRequest, user.getId(), parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedTask, accept)).body(updatedTask);
     }
 
     @PutMapping("/{id}/status")
@@ -96,14 +396,18 @@ public class TaskController {
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid status"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the version in If-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TaskResponseDTO> updateTaskStatus(
             @PathVariable String id,
             @Valid @RequestBody UpdateTaskStatusDTO statusUpdate,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal User user) {
-        TaskResponseDTO updatedTask = taskService.updateTaskStatus(id, statusUpdate.getStatus(), user.getId());
-        return ResponseEntity.ok(updatedTask);
+        TaskResponseDTO updatedTask = taskService.updateTaskStatus(
+                id, statusUpdate.getStatus(), user.getId(), parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedTask, accept)).body(updatedTask);
     }
 
     @PatchMapping("/{id}/complete")
@@ -112,13 +416,16 @@ public class TaskController {
             @ApiResponse(responseCode = "200", description = "Task marked as completed",
                     content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the version in If-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<TaskResponseDTO> markTaskAsCompleted(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal User user) {
-        TaskResponseDTO completedTask = taskService.markTaskAsCompleted(id, user.getId());
-        return ResponseEntity.ok(completedTask);
+        TaskResponseDTO completedTask = taskService.markTaskAsCompleted(id, user.getId(), parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(completedTask, accept)).body(completedTask);
     }
 
     @DeleteMapping("/{id}")
@@ -126,12 +433,26 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the version in If-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<Void> deleteTask(
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal User user) {
-        taskService.deleteTask(id, user.getId());
+        taskService.deleteTask(id, user.getId(), parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Answers a collection read with 304 from the per-user change version alone.
+     * The version is read before the data, so a concurrent write can only leave
+     * the ETag older than the body, which costs one extra full response later.
+     */
+    private boolean collectionNotModified(ServletWebRequest webRequest, String userId) {
+        TaskCollectionVersion version = taskService.getCollectionVersion(userId);
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        webRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return webRequest.checkNotModified(collectionETag(userId, version, webRequest.getHeader(HttpHeaders.ACCEPT)), toEpochMilli(version.lastModified()));
+    }
 }
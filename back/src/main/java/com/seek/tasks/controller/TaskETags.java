@@ -0,0 +1,103 @@
+package com.seek.tasks.controller;
+
+import com.seek.tasks.config.BinaryContentConfig;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.service.TaskCollectionVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity tags and validators shared by the servlet and reactive task controllers.
+ */
+final class TaskETags {
+
+    // Cacheable by the browser, but always revalidated with If-None-Match
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final String CBOR_SUFFIX = "-cbor";
+    private static final String SMILE_SUFFIX = "-smile";
+
+    private TaskETags() {
+    }
+
+    // JSON keeps the bare version; the binary formats are different representations, so they get their own tag
+    static String eTag(TaskResponseDTO task, String accept) {
+        return "\"" + task.getVersion() + formatSuffix(accept) + "\"";
+    }
+
+    // The user id keeps a browser shared by two accounts from matching the other's list
+    static String collectionETag(String userId, TaskCollectionVersion version, String accept) {
+        return "W/\"" + userId + "-" + version.version() + formatSuffix(accept) + "\"";
+    }
+
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    static long toEpochMilli(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : -1;
+    }
+
+    // Only a single strong tag carrying a task version can match, in any format; '*' means no condition
+    static Long parseIfMatch(String ifMatch) {
+        if (!StringUtils.hasText(ifMatch) || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong entity tag");
+        }
+        String version = tag.substring(1, tag.length() - 1);
+        for (String suffix : List.of(CBOR_SUFFIX, SMILE_SUFFIX)) {
+            if (version.endsWith(suffix)) {
+                version = version.substring(0, version.length() - suffix.length());
+                break;
+            }
+        }
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match does not name a version of this task");
+        }
+    }
+
+    /**
+     * The format the response will be written in, judged from {@code Accept} the way the
+     * message converters negotiate it: the most specific and preferred type wins, and
+     * JSON answers wildcards and anything it cannot read.
+     */
+    private static String formatSuffix(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return "";
+        }
+        List<MediaType> types;
+        try {
+            types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            MimeTypeUtils.sortBySpecificity(types);
+        } catch (IllegalArgumentException ex) {
+            // Unparseable or too long; the converters will not pick a binary format either
+            return "";
+        }
+        for (MediaType type : types) {
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return CBOR_SUFFIX;
+            }
+            if (type.equalsTypeAndSubtype(BinaryContentConfig.APPLICATION_SMILE)) {
+                return SMILE_SUFFIX;
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,29 @@
+package com.seek.tasks.dto;
+
+import com.seek.tasks.dto.BatchOperationDTO.OperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDTO {
+
+    private int index;
+    private OperationType type;
+    private String id;
+    private Outcome outcome;
+    private String message;
+
+    public enum Outcome {
+        OK,
+        INVALID,
+        NOT_FOUND,
+        FAILED,
+        // Not attempted because an earlier operation of an ordered batch failed
+        SKIPPED
+    }
+}
@@ -0,0 +1,32 @@
+package com.seek.tasks.dto;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOperationDTO {
+
+    private OperationType type;
+
+    // Required for every type except CREATE
+    private String id;
+
+    private String title;
+
+    private String description;
+
+    private TaskStatus status;
+
+    public enum OperationType {
+        CREATE,
+        UPDATE,
+        STATUS,
+        DELETE
+    }
+}
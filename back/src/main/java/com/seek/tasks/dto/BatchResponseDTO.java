@@ -0,0 +1,20 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+
+    private boolean ordered;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDTO> results;
+}
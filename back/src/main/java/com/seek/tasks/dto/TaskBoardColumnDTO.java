@@ -0,0 +1,22 @@
+package com.seek.tasks.dto;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumnDTO {
+
+    private TaskStatus status;
+    private long total;
+    private List<TaskResponseDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
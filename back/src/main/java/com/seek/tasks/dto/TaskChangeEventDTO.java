@@ -0,0 +1,22 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEventDTO {
+
+    private ChangeType type;
+    private String taskId;
+    // The task after the change; absent for deletions
+    private TaskResponseDTO task;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,20 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+
+    private List<TaskResponseDTO> changed;
+    private List<String> deleted;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponseDTO {
+
+    private List<TaskResponseDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
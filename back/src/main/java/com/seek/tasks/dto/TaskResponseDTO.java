@@ -20,4 +20,5 @@ public class TaskResponseDTO {
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
 }
@@ -0,0 +1,20 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponseDTO {
+
+    private List<TaskResponseDTO> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
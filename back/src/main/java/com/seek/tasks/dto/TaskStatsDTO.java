@@ -0,0 +1,18 @@
+package com.seek.tasks.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long completed;
+}
@@ -7,12 +7,21 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "tasks")
+@CompoundIndex(name = "user_created_id", def = "{'userId': 1, 'createdAt': -1, '_id': -1}")
+// Also serves every plain lookup by userId, so userId needs no index of its own
+@CompoundIndex(name = "user_id", def = "{'userId': 1, '_id': 1}")
+@CompoundIndex(name = "user_updated_id", def = "{'userId': 1, 'updatedAt': 1, '_id': 1}")
+@CompoundIndex(name = "user_status_created_id", def = "{'userId': 1, 'status': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(name = "user_status_updated_id", def = "{'userId': 1, 'status': 1, 'updatedAt': 1, '_id': 1}")
+// Text search is always scoped to one user, so userId is an equality prefix of the text index
+@CompoundIndex(name = "user_text", def = "{'userId': 1, 'title': 'text', 'description': 'text'}")
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,9 +44,12 @@ public class Task {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    @Indexed
     private String userId;
 
+    // Tasks written before versioning have no value and count as version 0
+    @Version
+    private Long version;
+
     public enum TaskStatus {
         TODO, IN_PROGRESS, COMPLETED
     }
@@ -0,0 +1,42 @@
+package com.seek.tasks.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Per-user task counters, keyed by user id. Seeded from the user's tasks
+ * before their first counted write, kept current with {@code $inc} on every
+ * task write and repaired periodically by the stats reconciler.
+ * The same write bumps {@code changeVersion} and stamps {@code lastModified}
+ * with the database's clock. The version identifies the state of the user's
+ * whole task collection for conditional requests, and lets the reconciler
+ * replace the counters without losing an increment that landed meanwhile.
+ */
+@Document(collection = "task_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats {
+
+    @Id
+    private String userId;
+
+    private long total;
+
+    private long todo;
+
+    private long inProgress;
+
+    private long completed;
+
+    private long changeVersion;
+
+    private Instant lastModified;
+}
@@ -0,0 +1,34 @@
+package com.seek.tasks.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task, keyed by the task's id, so delta sync can tell
+ * clients what to drop. Removed by the tombstone compactor once older than
+ * the sync retention.
+ */
+@Document(collection = "task_tombstones")
+@CompoundIndex(name = "user_deleted_id", def = "{'userId': 1, 'deletedAt': 1, '_id': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    @Id
+    private String taskId;
+
+    private String userId;
+
+    @Indexed(name = "deleted_at")
+    private LocalDateTime deletedAt;
+}
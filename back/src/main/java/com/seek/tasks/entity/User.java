@@ -11,6 +11,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,20 +23,32 @@ import java.util.Collections;
 @AllArgsConstructor
 public class User implements UserDetails {
 
+    // Registration tells the two conflicts apart by these index names
+    public static final String USERNAME_INDEX = "username";
+    public static final String EMAIL_INDEX = "email";
+
     @Id
     private String id;
 
-    @Indexed(unique = true)
+    @Indexed(name = USERNAME_INDEX, unique = true)
     private String username;
 
     private String password;
 
-    @Indexed(unique = true)
+    @Indexed(name = EMAIL_INDEX, unique = true)
     private String email;
 
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // Bumped to revoke every token issued before the change
+    @Builder.Default
+    private long credentialsVersion = 0;
+
+    // Server time of the last bump. Only revoking users have it, so the partial index stays small
+    @Indexed(name = "credentials_revoked_at", partialFilter = "{ 'credentialsRevokedAt': { '$exists': true } }")
+    private Instant credentialsRevokedAt;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
@@ -0,0 +1,8 @@
+package com.seek.tasks.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(int maxOperations) {
+        super(String.format("A batch may contain at most %d operations", maxOperations));
+    }
+}
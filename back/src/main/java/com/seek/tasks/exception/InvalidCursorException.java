@@ -0,0 +1,12 @@
+package com.seek.tasks.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException() {
+        super("Invalid or corrupted continuation token");
+    }
+}
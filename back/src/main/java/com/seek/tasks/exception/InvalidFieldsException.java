@@ -0,0 +1,10 @@
+package com.seek.tasks.exception;
+
+import java.util.Collection;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    public InvalidFieldsException(String field, Collection<String> supported) {
+        super(String.format("Unknown field '%s'; supported fields are %s", field, String.join(", ", supported)));
+    }
+}
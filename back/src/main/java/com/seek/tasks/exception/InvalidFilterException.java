@@ -0,0 +1,8 @@
+package com.seek.tasks.exception;
+
+public class InvalidFilterException extends RuntimeException {
+
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.seek.tasks.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String id, Long expectedVersion) {
+        super(String.format("Task with id '%s' is no longer at version %d", id, expectedVersion));
+    }
+}
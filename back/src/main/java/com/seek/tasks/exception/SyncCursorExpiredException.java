@@ -0,0 +1,12 @@
+package com.seek.tasks.exception;
+
+public class SyncCursorExpiredException extends RuntimeException {
+
+    public SyncCursorExpiredException(String message) {
+        super(message);
+    }
+
+    public SyncCursorExpiredException() {
+        super("Sync cursor is older than the deletion history; sync again without 'since'");
+    }
+}
@@ -0,0 +1,14 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+
+    Mono<Task> findByIdAndUserId(String id, String userId);
+
+    Mono<Boolean> existsByIdAndUserId(String id, String userId);
+}
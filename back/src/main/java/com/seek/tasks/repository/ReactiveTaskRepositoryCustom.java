@@ -0,0 +1,55 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import com.seek.tasks.service.TaskSyncCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link TaskRepositoryCustom}; every method issues
+ * the same command against the same index as its blocking twin.
+ */
+public interface ReactiveTaskRepositoryCustom {
+
+    Flux<Task> findPageByUserId(String userId, TaskCursor after, int limit);
+
+    Flux<Task> findColumnPageByUserId(String userId, TaskStatus status, TaskCursor after, int limit);
+
+    Mono<List<TaskBoardColumn>> findBoardByUserId(String userId, int limit);
+
+    Flux<TaskResponseDTO> findViewsByUserId(String userId, TaskFields fields, TaskFilter filter);
+
+    /**
+     * Every task of a user in {@code _id} order, starting after {@code afterId}
+     * when given. Demand from the subscriber drives the cursor batches.
+     */
+    Flux<Task> streamByUserId(String userId, String afterId);
+
+    Flux<Task> searchByUserId(String userId, String terms, long skip, int limit);
+
+    Flux<Task> findChangedSince(String userId, TaskSyncCursor after, int limit);
+
+    Mono<Map<TaskStatus, Long>> countByStatus(String userId);
+
+    Mono<Task> findAndUpdate(String id, String userId, Long expectedVersion, String title,
+                             String description, TaskStatus status, LocalDateTime updatedAt);
+
+    Mono<Task> findAndUpdateStatus(String id, String userId, Long expectedVersion,
+                                   TaskStatus status, LocalDateTime updatedAt);
+
+    Mono<Task> findAndDelete(String id, String userId, Long expectedVersion);
+
+    Mono<Map<String, TaskStatus>> findStatusesByIds(String userId, Collection<String> ids);
+
+    Mono<TaskBulkResult> bulkWrite(String userId, List<TaskBulkWrite> writes, boolean ordered);
+}
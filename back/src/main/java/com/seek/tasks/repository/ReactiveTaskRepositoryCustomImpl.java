@@ -0,0 +1,138 @@
+package com.seek.tasks.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import com.seek.tasks.service.TaskSyncCursor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Flux<Task> findPageByUserId(String userId, TaskCursor after, int limit) {
+        return reactiveMongoTemplate.find(TaskQueries.page(userId, after, limit), Task.class);
+    }
+
+    @Override
+    public Flux<Task> findColumnPageByUserId(String userId, TaskStatus status, TaskCursor after, int limit) {
+        return reactiveMongoTemplate.find(TaskQueries.columnPage(userId, status, after, limit), Task.class);
+    }
+
+    @Override
+    public Mono<List<TaskBoardColumn>> findBoardByUserId(String userId, int limit) {
+        Aggregation board = TaskQueries.board(reactiveMongoTemplate.getCollectionName(Task.class), userId, limit);
+        return reactiveMongoTemplate.aggregate(board, Task.class, Task.class)
+                .collectList()
+                .map(TaskQueries::toBoardColumns);
+    }
+
+    @Override
+    public Flux<TaskResponseDTO> findViewsByUserId(String userId, TaskFields fields, TaskFilter filter) {
+        return reactiveMongoTemplate.query(Task.class)
+                .as(TaskResponseDTO.class)
+                .matching(TaskQueries.views(userId, fields, filter))
+                .all();
+    }
+
+    @Override
+    public Flux<Task> streamByUserId(String userId, String afterId) {
+        return reactiveMongoTemplate.find(TaskQueries.byUserInIdOrder(userId, afterId), Task.class);
+    }
+
+    @Override
+    public Flux<Task> searchByUserId(String userId, String terms, long skip, int limit) {
+        return reactiveMongoTemplate.find(TaskQueries.search(userId, terms, skip, limit), Task.class);
+    }
+
+    @Override
+    public Flux<Task> findChangedSince(String userId, TaskSyncCursor after, int limit) {
+        return reactiveMongoTemplate.find(TaskQueries.changedSince(userId, after, limit), Task.class);
+    }
+
+    @Override
+    public Mono<Map<TaskStatus, Long>> countByStatus(String userId) {
+        return reactiveMongoTemplate.aggregate(TaskQueries.countByStatus(userId), Task.class, Document.class)
+                .filter(row -> row.getString("_id") != null)
+                .collect(() -> new EnumMap<>(TaskStatus.class), (counts, row) ->
+                        counts.put(TaskStatus.valueOf(row.getString("_id")), TaskQueries.toLong(row.get("count"))));
+    }
+
+    @Override
+    public Mono<Task> findAndUpdate(String id, String userId, Long expectedVersion, String title,
+                                    String description, TaskStatus status, LocalDateTime updatedAt) {
+        return reactiveMongoTemplate.findAndModify(
+                TaskQueries.byIdAndUser(id, userId, expectedVersion),
+                TaskQueries.fields(title, description, status, updatedAt),
+                Task.class);
+    }
+
+    @Override
+    public Mono<Task> findAndUpdateStatus(String id, String userId, Long expectedVersion,
+                                          TaskStatus status, LocalDateTime updatedAt) {
+        return reactiveMongoTemplate.findAndModify(
+                TaskQueries.byIdAndUser(id, userId, expectedVersion),
+                TaskQueries.status(status, updatedAt),
+                Task.class);
+    }
+
+    @Override
+    public Mono<Task> findAndDelete(String id, String userId, Long expectedVersion) {
+        return reactiveMongoTemplate.findAndRemove(TaskQueries.byIdAndUser(id, userId, expectedVersion), Task.class);
+    }
+
+    @Override
+    public Mono<Map<String, TaskStatus>> findStatusesByIds(String userId, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(new HashMap<>());
+        }
+        return reactiveMongoTemplate.find(TaskQueries.statusesByIds(userId, ids), Task.class)
+                .collect(HashMap::new, (statuses, task) -> statuses.put(task.getId(), task.getStatus()));
+    }
+
+    @Override
+    public Mono<TaskBulkResult> bulkWrite(String userId, List<TaskBulkWrite> writes, boolean ordered) {
+        ReactiveBulkOperations bulk = reactiveMongoTemplate.bulkOps(
+                ordered ? BulkOperations.BulkMode.ORDERED : BulkOperations.BulkMode.UNORDERED, Task.class);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        for (TaskBulkWrite write : writes) {
+            String id = write.task().getId();
+            switch (write.kind()) {
+                case INSERT -> bulk.insert(write.task());
+                case UPDATE, STATUS -> bulk.updateOne(
+                        TaskQueries.byIdAndUser(id, userId), TaskQueries.bulkUpdate(write, now));
+                case DELETE -> bulk.remove(TaskQueries.byIdAndUser(id, userId));
+            }
+        }
+
+        // Depending on the driver path the failure arrives raw or translated
+        return bulk.execute()
+                .map(result -> TaskBulkResult.of(result, List.of()))
+                .onErrorResume(MongoBulkWriteException.class,
+                        ex -> Mono.just(TaskBulkResult.of(ex.getWriteResult(), ex.getWriteErrors())))
+                .onErrorResume(BulkOperationException.class,
+                        ex -> Mono.just(TaskBulkResult.of(ex.getResult(), ex.getErrors())));
+    }
+}
@@ -0,0 +1,10 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskStats;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveTaskStatsRepository
+        extends ReactiveMongoRepository<TaskStats, String>, ReactiveTaskStatsRepositoryCustom {
+}
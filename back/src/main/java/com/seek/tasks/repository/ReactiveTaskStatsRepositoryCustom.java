@@ -0,0 +1,18 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link TaskStatsRepositoryCustom}.
+ */
+public interface ReactiveTaskStatsRepositoryCustom {
+
+    Mono<Void> increment(String userId, Map<TaskStatus, Integer> deltas);
+
+    Mono<Void> seedCounts(String userId, Map<TaskStatus, Long> counts);
+
+    Mono<Boolean> replaceCounts(String userId, Map<TaskStatus, Long> counts, long expectedChangeVersion);
+}
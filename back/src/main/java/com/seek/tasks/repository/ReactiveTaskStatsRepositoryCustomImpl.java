@@ -0,0 +1,34 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReactiveTaskStatsRepositoryCustomImpl implements ReactiveTaskStatsRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> increment(String userId, Map<TaskStatus, Integer> deltas) {
+        return reactiveMongoTemplate.upsert(
+                TaskStatsUpdates.byUser(userId), TaskStatsUpdates.increment(deltas), TaskStats.class).then();
+    }
+
+    @Override
+    public Mono<Void> seedCounts(String userId, Map<TaskStatus, Long> counts) {
+        return reactiveMongoTemplate.upsert(
+                TaskStatsUpdates.byUser(userId), TaskStatsUpdates.seedCounts(counts), TaskStats.class).then();
+    }
+
+    @Override
+    public Mono<Boolean> replaceCounts(String userId, Map<TaskStatus, Long> counts, long expectedChangeVersion) {
+        return reactiveMongoTemplate.updateFirst(TaskStatsUpdates.byUserAtVersion(userId, expectedChangeVersion),
+                        TaskStatsUpdates.replaceCounts(counts), TaskStats.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
@@ -0,0 +1,10 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveTaskTombstoneRepository
+        extends ReactiveMongoRepository<TaskTombstone, String>, ReactiveTaskTombstoneRepositoryCustom {
+}
@@ -0,0 +1,20 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.service.TaskSyncCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link TaskTombstoneRepositoryCustom}. Compaction
+ * always runs on the blocking repository.
+ */
+public interface ReactiveTaskTombstoneRepositoryCustom {
+
+    Mono<Void> recordDeletions(String userId, Collection<String> taskIds, LocalDateTime deletedAt);
+
+    Flux<TaskTombstone> findDeletedSince(String userId, TaskSyncCursor after, int limit);
+}
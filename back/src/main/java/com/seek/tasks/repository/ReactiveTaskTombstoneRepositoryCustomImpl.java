@@ -0,0 +1,39 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.service.TaskSyncCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public class ReactiveTaskTombstoneRepositoryCustomImpl implements ReactiveTaskTombstoneRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> recordDeletions(String userId, Collection<String> taskIds, LocalDateTime deletedAt) {
+        if (taskIds.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations bulk = reactiveMongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, TaskTombstone.class);
+        for (String taskId : taskIds) {
+            bulk.upsert(new Query(Criteria.where("_id").is(taskId)), TaskQueries.tombstone(userId, deletedAt));
+        }
+        return bulk.execute().then();
+    }
+
+    @Override
+    public Flux<TaskTombstone> findDeletedSince(String userId, TaskSyncCursor after, int limit) {
+        return reactiveMongoTemplate.find(TaskQueries.tombstonesSince(userId, after, limit), TaskTombstone.class);
+    }
+}
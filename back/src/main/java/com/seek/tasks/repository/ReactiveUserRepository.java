@@ -0,0 +1,12 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String>, ReactiveUserRepositoryCustom {
+
+    Mono<User> findByUsername(String username);
+}
@@ -0,0 +1,17 @@
+package com.seek.tasks.repository;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepositoryCustom {
+
+    /**
+     * Atomically bumps a user's credentials version and emits the new value,
+     * or -1 when the user does not exist.
+     */
+    Mono<Long> incrementCredentialsVersion(String userId);
+
+    /**
+     * Replaces the stored password hash; emits false when the user does not exist.
+     */
+    Mono<Boolean> updatePassword(String username, String encodedPassword);
+}
@@ -0,0 +1,38 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+public class ReactiveUserRepositoryCustomImpl implements ReactiveUserRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Long> incrementCredentialsVersion(String userId) {
+        Query query = new Query(Criteria.where("id").is(userId));
+        query.fields().include("credentialsVersion");
+        return reactiveMongoTemplate.findAndModify(
+                        query,
+                        new Update().inc("credentialsVersion", 1).currentDate("credentialsRevokedAt"),
+                        FindAndModifyOptions.options().returnNew(true),
+                        User.class)
+                .map(User::getCredentialsVersion)
+                .defaultIfEmpty(-1L);
+    }
+
+    @Override
+    public Mono<Boolean> updatePassword(String username, String encodedPassword) {
+        return reactiveMongoTemplate.updateFirst(
+                        new Query(Criteria.where("username").is(username)),
+                        new Update().set("password", encodedPassword),
+                        User.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
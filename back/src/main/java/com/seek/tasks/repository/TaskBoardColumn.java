@@ -0,0 +1,13 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+
+import java.util.List;
+
+/**
+ * The newest tasks of one status, as read by one branch of the board
+ * aggregation. Column totals come from the user's counters.
+ */
+public record TaskBoardColumn(TaskStatus status, List<Task> tasks) {
+}
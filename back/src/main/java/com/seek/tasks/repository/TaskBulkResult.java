@@ -0,0 +1,25 @@
+package com.seek.tasks.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk request: the error message of each failed write keyed by
+ * its position, and how many documents the executed updates matched and the
+ * executed deletes removed. The server only reports those counts for the
+ * whole request, not per write.
+ */
+public record TaskBulkResult(Map<Integer, String> errors, int matched, int deleted) {
+
+    static TaskBulkResult of(BulkWriteResult result, List<BulkWriteError> bulkErrors) {
+        Map<Integer, String> errors = new HashMap<>();
+        for (BulkWriteError error : bulkErrors) {
+            errors.put(error.getIndex(), error.getMessage());
+        }
+        return new TaskBulkResult(errors, result.getMatchedCount(), result.getDeletedCount());
+    }
+}
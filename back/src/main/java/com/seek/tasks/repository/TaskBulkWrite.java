@@ -0,0 +1,41 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+
+/**
+ * One write of a bulk request. Only the fields relevant to the kind are read
+ * from {@code task}: the whole document for inserts, title, description and
+ * an optional status for updates, the status for status changes and just the
+ * id for deletes.
+ */
+public record TaskBulkWrite(Kind kind, Task task) {
+
+    public enum Kind {
+        INSERT,
+        UPDATE,
+        STATUS,
+        DELETE
+    }
+
+    public static TaskBulkWrite insert(Task task) {
+        return new TaskBulkWrite(Kind.INSERT, task);
+    }
+
+    public static TaskBulkWrite update(String id, String title, String description, TaskStatus status) {
+        return new TaskBulkWrite(Kind.UPDATE, Task.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .status(status)
+                .build());
+    }
+
+    public static TaskBulkWrite status(String id, TaskStatus status) {
+        return new TaskBulkWrite(Kind.STATUS, Task.builder().id(id).status(status).build());
+    }
+
+    public static TaskBulkWrite delete(String id) {
+        return new TaskBulkWrite(Kind.DELETE, Task.builder().id(id).build());
+    }
+}
@@ -0,0 +1,295 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import com.seek.tasks.service.TaskSyncCursor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queries and updates shared by the blocking and reactive task repositories,
+ * so both modes hit the same indexes with the same commands.
+ */
+final class TaskQueries {
+
+    private TaskQueries() {
+    }
+
+    static Query page(String userId, TaskCursor after, int limit) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        if (after != null) {
+            query.addCriteria(after(after));
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        query.limit(limit);
+        return query;
+    }
+
+    static Query columnPage(String userId, TaskStatus status, TaskCursor after, int limit) {
+        Query query = page(userId, after, limit);
+        query.addCriteria(Criteria.where("status").is(status));
+        return query;
+    }
+
+    static Query views(String userId, TaskFields fields, TaskFilter filter) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        fields.names().forEach(query.fields()::include);
+        if (filter.isNone()) {
+            return query;
+        }
+        if (!filter.statuses().isEmpty()) {
+            query.addCriteria(Criteria.where("status").in(filter.statuses()));
+        }
+        range(query, "createdAt", filter.createdFrom(), filter.createdTo());
+        range(query, "updatedAt", filter.updatedFrom(), filter.updatedTo());
+        query.with(Sort.by(filter.direction(), filter.sort().field(), "id"));
+        return query;
+    }
+
+    static Query byUserInIdOrder(String userId, String afterId) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        if (afterId != null) {
+            // Range operands on _id are not converted by the mapper
+            query.addCriteria(Criteria.where("id").gt(new ObjectId(afterId)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "id"));
+        return query;
+    }
+
+    static Query search(String userId, String terms, long skip, int limit) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(terms))
+                .sortByScore()
+                .addCriteria(Criteria.where("userId").is(userId));
+        // Equal scores are ordered by id so offset pages neither repeat nor skip tasks
+        query.with(Sort.by(Sort.Direction.DESC, "id"));
+        query.skip(skip);
+        query.limit(limit);
+        return query;
+    }
+
+    static Query changedSince(String userId, TaskSyncCursor after, int limit) {
+        return since(new Query(Criteria.where("userId").is(userId)), "updatedAt", after, limit);
+    }
+
+    static Query tombstonesSince(String userId, TaskSyncCursor after, int limit) {
+        return since(new Query(Criteria.where("userId").is(userId)), "deletedAt", after, limit);
+    }
+
+    static Query tombstonesBefore(LocalDateTime cutoff) {
+        return new Query(Criteria.where("deletedAt").lt(cutoff));
+    }
+
+    static Update tombstone(String userId, LocalDateTime deletedAt) {
+        return new Update().set("userId", userId).set("deletedAt", deletedAt);
+    }
+
+    private static void range(Query query, String field, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return;
+        }
+        Criteria criteria = Criteria.where(field);
+        if (from != null) {
+            criteria.gte(from);
+        }
+        if (to != null) {
+            criteria.lt(to);
+        }
+        query.addCriteria(criteria);
+    }
+
+    static Aggregation countByStatus(String userId) {
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)),
+                Aggregation.group("status").count().as("count")
+        );
+    }
+
+    /**
+     * The board in one round trip: one branch per status, each reading the
+     * first {@code limit} tasks of its column from {@code user_status_created_id}
+     * and stopping there. The first branch runs on {@code collection} itself and
+     * the others are appended with {@code $unionWith}, so no task beyond the
+     * column heads is read.
+     */
+    static Aggregation board(String collection, String userId, int limit) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            if (stages.isEmpty()) {
+                stages.addAll(boardColumn(userId, status, limit));
+            } else {
+                stages.add(UnionWithOperation.unionWith(collection)
+                        .pipeline(boardColumn(userId, status, limit))
+                        .mapFieldsTo(Task.class));
+            }
+        }
+        return Aggregation.newAggregation(stages);
+    }
+
+    // Same order as columnPage, so a column's cursor continues exactly where its head ends
+    private static List<AggregationOperation> boardColumn(String userId, TaskStatus status, int limit) {
+        return List.of(
+                Aggregation.match(Criteria.where("userId").is(userId).and("status").is(status.name())),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt", "_id")),
+                Aggregation.limit(limit),
+                Aggregation.project().andExclude("userId")
+        );
+    }
+
+    static List<TaskBoardColumn> toBoardColumns(List<Task> heads) {
+        Map<TaskStatus, List<Task>> tasks = new EnumMap<>(TaskStatus.class);
+        for (Task task : heads) {
+            tasks.computeIfAbsent(task.getStatus(), status -> new ArrayList<>()).add(task);
+        }
+        List<TaskBoardColumn> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.add(new TaskBoardColumn(status, tasks.getOrDefault(status, List.of())));
+        }
+        return columns;
+    }
+
+    static Aggregation statusCounts() {
+        return Aggregation.newAggregation(
+                Aggregation.group("userId", "status").count().as("count"),
+                Aggregation.sort(Sort.Direction.ASC, "userId")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+    }
+
+    static Query statusesByIds(String userId, Collection<String> ids) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("id").in(ids));
+        query.fields().include("status");
+        return query;
+    }
+
+    static Query byIdAndUser(String id, String userId) {
+        return new Query(Criteria.where("id").is(id).and("userId").is(userId));
+    }
+
+    static Query byIdAndUser(String id, String userId, Long expectedVersion) {
+        Query query = byIdAndUser(id, userId);
+        if (expectedVersion != null) {
+            // Documents that predate versioning have no field and are at version 0
+            query.addCriteria(expectedVersion == 0
+                    ? Criteria.where("version").in(0L, null)
+                    : Criteria.where("version").is(expectedVersion));
+        }
+        return query;
+    }
+
+    static Update fields(String title, String description, TaskStatus status, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .set("title", title)
+                .set("description", description)
+                .set("updatedAt", updatedAt)
+                .inc("version", 1);
+        if (status != null) {
+            update.set("status", status);
+        }
+        return update;
+    }
+
+    static Update status(TaskStatus status, LocalDateTime updatedAt) {
+        return new Update()
+                .set("status", status)
+                .set("updatedAt", updatedAt)
+                .inc("version", 1);
+    }
+
+    /**
+     * The update a bulk UPDATE or STATUS write applies; null for the other kinds.
+     */
+    static Update bulkUpdate(TaskBulkWrite write, LocalDateTime now) {
+        Task task = write.task();
+        return switch (write.kind()) {
+            case UPDATE -> fields(task.getTitle(), task.getDescription(), task.getStatus(), now);
+            case STATUS -> status(task.getStatus(), now);
+            case INSERT, DELETE -> null;
+        };
+    }
+
+    static TaskStatusCount toStatusCount(Document row) {
+        Document key = row.get("_id", Document.class);
+        String status = key.getString("status");
+        return new TaskStatusCount(
+                key.getString("userId"),
+                status != null ? TaskStatus.valueOf(status) : null,
+                toLong(row.get("count")));
+    }
+
+    static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // Change log order for both tasks and tombstones: the timestamp, then _id to break ties
+    private static Query since(Query query, String field, TaskSyncCursor after, int limit) {
+        if (after != null) {
+            query.addCriteria(since(field, after));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, field, "_id"));
+        query.limit(limit);
+        return query;
+    }
+
+    // Undated documents come first, so a dated cursor has already passed all of them.
+    // Range operators on _id are not converted by the mapper, hence the explicit ObjectId.
+    private static Criteria since(String field, TaskSyncCursor cursor) {
+        if (cursor.at() == null) {
+            return new Criteria().orOperator(
+                    new Criteria().andOperator(
+                            Criteria.where(field).is(null),
+                            Criteria.where("_id").gt(new ObjectId(cursor.id()))
+                    ),
+                    Criteria.where(field).ne(null)
+            );
+        }
+        if (cursor.id() == null) {
+            return Criteria.where(field).gte(cursor.at());
+        }
+        return new Criteria().orOperator(
+                Criteria.where(field).gt(cursor.at()),
+                new Criteria().andOperator(
+                        Criteria.where(field).is(cursor.at()),
+                        Criteria.where("_id").gt(new ObjectId(cursor.id()))
+                )
+        );
+    }
+
+    // Documents without createdAt sort after every dated one in DESC order,
+    // so they must stay reachable from a dated cursor. The mapper leaves range
+    // operands on _id as strings, which never match an ObjectId, so convert here.
+    private static Criteria after(TaskCursor cursor) {
+        if (cursor.createdAt() == null) {
+            return new Criteria().andOperator(
+                    Criteria.where("createdAt").is(null),
+                    Criteria.where("id").lt(new ObjectId(cursor.id()))
+            );
+        }
+        return new Criteria().orOperator(
+                Criteria.where("createdAt").lt(cursor.createdAt()),
+                new Criteria().andOperator(
+                        Criteria.where("createdAt").is(cursor.createdAt()),
+                        Criteria.where("id").lt(new ObjectId(cursor.id()))
+                ),
+                Criteria.where("createdAt").is(null)
+        );
+    }
+}
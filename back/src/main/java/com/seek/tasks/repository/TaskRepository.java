@@ -4,13 +4,10 @@ import com.seek.tasks.entity.Task;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends MongoRepository<Task, String> {
-
-    List<Task> findByUserId(String userId);
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
     Optional<Task> findByIdAndUserId(String id, String userId);
 
@@ -0,0 +1,113 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import com.seek.tasks.service.TaskSyncCursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Keyset page of a user's tasks ordered by {@code createdAt DESC, _id DESC}.
+     * Served by the {@code user_created_id} compound index, so the cost of a page
+     * does not depend on how deep into the collection it is.
+     */
+    List<Task> findPageByUserId(String userId, TaskCursor after, int limit);
+
+    /**
+     * Keyset page of one board column, in the same order as
+     * {@link #findPageByUserId}. Served by {@code user_status_created_id}.
+     */
+    List<Task> findColumnPageByUserId(String userId, TaskStatus status, TaskCursor after, int limit);
+
+    /**
+     * The first {@code limit} tasks of every status, newest first, read by one
+     * aggregation with a {@code $unionWith} branch per status.
+     */
+    List<TaskBoardColumn> findBoardByUserId(String userId, int limit);
+
+    /**
+     * Every task of a user read straight into response DTOs, fetching only the
+     * selected fields. Neither {@code userId} nor unselected fields are read.
+     * A filter narrows and orders the read on the compound index that matches
+     * its shape; {@link TaskFilter#NONE} reads in natural order.
+     */
+    List<TaskResponseDTO> findViewsByUserId(String userId, TaskFields fields, TaskFilter filter);
+
+    /**
+     * Open cursor over every task of a user in {@code _id} order, starting after
+     * {@code afterId} when given. The caller must close the stream.
+     */
+    Stream<Task> streamByUserId(String userId, String afterId);
+
+    /**
+     * A user's tasks matching the text search {@code terms} in title or
+     * description, best match first. Served by the {@code user_text} index.
+     */
+    List<Task> searchByUserId(String userId, String terms, long skip, int limit);
+
+    /**
+     * Tasks of a user created or updated after {@code after} (from the start
+     * when null), ordered by {@code updatedAt, _id}. Served by the
+     * {@code user_updated_id} compound index.
+     */
+    List<Task> findChangedSince(String userId, TaskSyncCursor after, int limit);
+
+    /**
+     * Number of tasks per status for one user, computed by aggregation.
+     */
+    Map<TaskStatus, Long> countByStatus(String userId);
+
+    /**
+     * Per-user, per-status task counts across the whole collection, ordered
+     * by user id so consumers can process one user at a time.
+     */
+    Stream<TaskStatusCount> streamStatusCounts();
+
+    /**
+     * Sets title, description, {@code updatedAt} and, when not null, status of
+     * a user's task and increments its version in one {@code findAndModify}.
+     * When {@code expectedVersion} is given the task only matches at that
+     * version. Returns the document as it was before the update, or empty
+     * when nothing matched.
+     */
+    Optional<Task> findAndUpdate(String id, String userId, Long expectedVersion, String title,
+                                 String description, TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Sets only status and {@code updatedAt}, returning the previous document.
+     */
+    Optional<Task> findAndUpdateStatus(String id, String userId, Long expectedVersion,
+                                       TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Deletes a user's task in one round trip, returning what was deleted.
+     */
+    Optional<Task> findAndDelete(String id, String userId, Long expectedVersion);
+
+    /**
+     * Current status of each of the given tasks that belongs to the user, in
+     * a single query. Ids that do not exist or belong to someone else are
+     * absent from the result.
+     */
+    Map<String, TaskStatus> findStatusesByIds(String userId, Collection<String> ids);
+
+    /**
+     * Sends all writes to the server as one bulk request. Updates and deletes
+     * only match documents owned by {@code userId}. Returns the error message
+     * of each failed write keyed by its position in {@code writes}, with the
+     * matched and deleted counts of the executed writes; in an ordered bulk
+     * nothing after the first failure is executed.
+     */
+    TaskBulkResult bulkWrite(String userId, List<TaskBulkWrite> writes, boolean ordered);
+}
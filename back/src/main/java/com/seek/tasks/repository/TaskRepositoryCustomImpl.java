@@ -0,0 +1,145 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.service.TaskCursor;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import com.seek.tasks.service.TaskSyncCursor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Task> findPageByUserId(String userId, TaskCursor after, int limit) {
+        return mongoTemplate.find(TaskQueries.page(userId, after, limit), Task.class);
+    }
+
+    @Override
+    public List<Task> findColumnPageByUserId(String userId, TaskStatus status, TaskCursor after, int limit) {
+        return mongoTemplate.find(TaskQueries.columnPage(userId, status, after, limit), Task.class);
+    }
+
+    @Override
+    public List<TaskBoardColumn> findBoardByUserId(String userId, int limit) {
+        Aggregation board = TaskQueries.board(mongoTemplate.getCollectionName(Task.class), userId, limit);
+        return TaskQueries.toBoardColumns(mongoTemplate.aggregate(board, Task.class, Task.class).getMappedResults());
+    }
+
+    @Override
+    public List<TaskResponseDTO> findViewsByUserId(String userId, TaskFields fields, TaskFilter filter) {
+        return mongoTemplate.query(Task.class)
+                .as(TaskResponseDTO.class)
+                .matching(TaskQueries.views(userId, fields, filter))
+                .all();
+    }
+
+    @Override
+    public Stream<Task> streamByUserId(String userId, String afterId) {
+        return mongoTemplate.stream(TaskQueries.byUserInIdOrder(userId, afterId), Task.class);
+    }
+
+    @Override
+    public List<Task> searchByUserId(String userId, String terms, long skip, int limit) {
+        return mongoTemplate.find(TaskQueries.search(userId, terms, skip, limit), Task.class);
+    }
+
+    @Override
+    public List<Task> findChangedSince(String userId, TaskSyncCursor after, int limit) {
+        return mongoTemplate.find(TaskQueries.changedSince(userId, after, limit), Task.class);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus(String userId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Document row : mongoTemplate.aggregate(TaskQueries.countByStatus(userId), Task.class, Document.class)) {
+            if (row.getString("_id") != null) {
+                counts.put(TaskStatus.valueOf(row.getString("_id")), TaskQueries.toLong(row.get("count")));
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Stream<TaskStatusCount> streamStatusCounts() {
+        return mongoTemplate.aggregateStream(TaskQueries.statusCounts(), Task.class, Document.class)
+                .map(TaskQueries::toStatusCount);
+    }
+
+    @Override
+    public Optional<Task> findAndUpdate(String id, String userId, Long expectedVersion, String title,
+                                        String description, TaskStatus status, LocalDateTime updatedAt) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                TaskQueries.byIdAndUser(id, userId, expectedVersion),
+                TaskQueries.fields(title, description, status, updatedAt),
+                Task.class));
+    }
+
+    @Override
+    public Optional<Task> findAndUpdateStatus(String id, String userId, Long expectedVersion,
+                                              TaskStatus status, LocalDateTime updatedAt) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                TaskQueries.byIdAndUser(id, userId, expectedVersion),
+                TaskQueries.status(status, updatedAt),
+                Task.class));
+    }
+
+    @Override
+    public Optional<Task> findAndDelete(String id, String userId, Long expectedVersion) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(
+                TaskQueries.byIdAndUser(id, userId, expectedVersion), Task.class));
+    }
+
+    @Override
+    public Map<String, TaskStatus> findStatusesByIds(String userId, Collection<String> ids) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        if (ids.isEmpty()) {
+            return statuses;
+        }
+        for (Task task : mongoTemplate.find(TaskQueries.statusesByIds(userId, ids), Task.class)) {
+            statuses.put(task.getId(), task.getStatus());
+        }
+        return statuses;
+    }
+
+    @Override
+    public TaskBulkResult bulkWrite(String userId, List<TaskBulkWrite> writes, boolean ordered) {
+        BulkOperations bulk = mongoTemplate.bulkOps(
+                ordered ? BulkOperations.BulkMode.ORDERED : BulkOperations.BulkMode.UNORDERED, Task.class);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        for (TaskBulkWrite write : writes) {
+            String id = write.task().getId();
+            switch (write.kind()) {
+                case INSERT -> bulk.insert(write.task());
+                case UPDATE, STATUS -> bulk.updateOne(
+                        TaskQueries.byIdAndUser(id, userId), TaskQueries.bulkUpdate(write, now));
+                case DELETE -> bulk.remove(TaskQueries.byIdAndUser(id, userId));
+            }
+        }
+
+        try {
+            return TaskBulkResult.of(bulk.execute(), List.of());
+        } catch (BulkOperationException ex) {
+            return TaskBulkResult.of(ex.getResult(), ex.getErrors());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskStatsRepository extends MongoRepository<TaskStats, String>, TaskStatsRepositoryCustom {
+
+    Stream<TaskStats> findByTotalNot(long total);
+}
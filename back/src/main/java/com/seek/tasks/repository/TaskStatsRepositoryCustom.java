@@ -0,0 +1,30 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+
+import java.util.Map;
+
+public interface TaskStatsRepositoryCustom {
+
+    /**
+     * Atomically adds the given per-status deltas (and their sum to the total)
+     * to a user's counters and bumps the change version, creating the document
+     * if needed. Empty or all-zero deltas still count as a change.
+     */
+    void increment(String userId, Map<TaskStatus, Integer> deltas);
+
+    /**
+     * Creates a user's counters from freshly aggregated values, starting at change
+     * version 0. Counters that already exist are left untouched, so a seed that
+     * loses a race never overwrites increments applied since.
+     */
+    void seedCounts(String userId, Map<TaskStatus, Long> counts);
+
+    /**
+     * Overwrites a user's counters with freshly aggregated values, but only while
+     * the change version is still {@code expectedChangeVersion}: an increment in
+     * between makes this a no-op instead of being lost. The change version is left
+     * alone since no task changed. Returns whether the counters were replaced.
+     */
+    boolean replaceCounts(String userId, Map<TaskStatus, Long> counts, long expectedChangeVersion);
+}
@@ -0,0 +1,30 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Map;
+
+public class TaskStatsRepositoryCustomImpl implements TaskStatsRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String userId, Map<TaskStatus, Integer> deltas) {
+        mongoTemplate.upsert(TaskStatsUpdates.byUser(userId), TaskStatsUpdates.increment(deltas), TaskStats.class);
+    }
+
+    @Override
+    public void seedCounts(String userId, Map<TaskStatus, Long> counts) {
+        mongoTemplate.upsert(TaskStatsUpdates.byUser(userId), TaskStatsUpdates.seedCounts(counts), TaskStats.class);
+    }
+
+    @Override
+    public boolean replaceCounts(String userId, Map<TaskStatus, Long> counts, long expectedChangeVersion) {
+        return mongoTemplate.updateFirst(TaskStatsUpdates.byUserAtVersion(userId, expectedChangeVersion),
+                TaskStatsUpdates.replaceCounts(counts), TaskStats.class).getMatchedCount() > 0;
+    }
+}
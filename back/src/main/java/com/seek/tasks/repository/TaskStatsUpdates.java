@@ -0,0 +1,77 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+
+/**
+ * Counter updates shared by the blocking and reactive stats repositories.
+ */
+final class TaskStatsUpdates {
+
+    private TaskStatsUpdates() {
+    }
+
+    static Query byUser(String userId) {
+        return new Query(Criteria.where("userId").is(userId));
+    }
+
+    // Counters created before the change version existed have none, which counts as 0
+    static Query byUserAtVersion(String userId, long changeVersion) {
+        Criteria version = changeVersion == 0
+                ? Criteria.where("changeVersion").in(0L, null)
+                : Criteria.where("changeVersion").is(changeVersion);
+        return new Query(Criteria.where("userId").is(userId).andOperator(version));
+    }
+
+    static Update increment(Map<TaskStatus, Integer> deltas) {
+        Update update = new Update().inc("changeVersion", 1).currentDate("lastModified");
+        int total = 0;
+        for (Map.Entry<TaskStatus, Integer> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                update.inc(counterField(delta.getKey()), delta.getValue());
+                total += delta.getValue();
+            }
+        }
+        if (total != 0) {
+            update.inc("total", total);
+        }
+        return update;
+    }
+
+    static Update replaceCounts(Map<TaskStatus, Long> counts) {
+        Update update = new Update();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            update.set(counterField(status), count);
+            total += count;
+        }
+        update.set("total", total);
+        return update;
+    }
+
+    static Update seedCounts(Map<TaskStatus, Long> counts) {
+        Update update = new Update();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            update.setOnInsert(counterField(status), count);
+            total += count;
+        }
+        update.setOnInsert("total", total);
+        update.setOnInsert("changeVersion", 0L);
+        return update;
+    }
+
+    static String counterField(TaskStatus status) {
+        return switch (status) {
+            case TODO -> "todo";
+            case IN_PROGRESS -> "inProgress";
+            case COMPLETED -> "completed";
+        };
+    }
+}
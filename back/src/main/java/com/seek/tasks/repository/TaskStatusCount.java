@@ -0,0 +1,9 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+
+/**
+ * One row of a {@code $group} by user and status over the tasks collection.
+ */
+public record TaskStatusCount(String userId, TaskStatus status, long count) {
+}
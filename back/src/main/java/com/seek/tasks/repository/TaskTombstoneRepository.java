@@ -0,0 +1,10 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskTombstoneRepository
+        extends MongoRepository<TaskTombstone, String>, TaskTombstoneRepositoryCustom {
+}
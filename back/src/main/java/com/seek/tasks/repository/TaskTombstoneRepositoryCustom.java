@@ -0,0 +1,28 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.service.TaskSyncCursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskTombstoneRepositoryCustom {
+
+    /**
+     * Upserts a tombstone for each deleted task in one bulk request, so a
+     * repeated delete only moves {@code deletedAt} forward.
+     */
+    void recordDeletions(String userId, Collection<String> taskIds, LocalDateTime deletedAt);
+
+    /**
+     * Tombstones of a user after {@code after} (from the start when null),
+     * ordered by {@code deletedAt, _id}. Served by the {@code user_deleted_id} index.
+     */
+    List<TaskTombstone> findDeletedSince(String userId, TaskSyncCursor after, int limit);
+
+    /**
+     * Removes every tombstone deleted before {@code cutoff}, returning how many went.
+     */
+    long deleteDeletedBefore(LocalDateTime cutoff);
+}
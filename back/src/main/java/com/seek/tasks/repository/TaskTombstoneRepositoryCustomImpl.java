@@ -0,0 +1,41 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.service.TaskSyncCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskTombstoneRepositoryCustomImpl implements TaskTombstoneRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void recordDeletions(String userId, Collection<String> taskIds, LocalDateTime deletedAt) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskTombstone.class);
+        for (String taskId : taskIds) {
+            bulk.upsert(new Query(Criteria.where("_id").is(taskId)), TaskQueries.tombstone(userId, deletedAt));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedSince(String userId, TaskSyncCursor after, int limit) {
+        return mongoTemplate.find(TaskQueries.tombstonesSince(userId, after, limit), TaskTombstone.class);
+    }
+
+    @Override
+    public long deleteDeletedBefore(LocalDateTime cutoff) {
+        return mongoTemplate.remove(TaskQueries.tombstonesBefore(cutoff), TaskTombstone.class).getDeletedCount();
+    }
+}
@@ -2,18 +2,22 @@ package com.seek.tasks.repository;
 
 import com.seek.tasks.entity.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
 
-    boolean existsByUsername(String username);
-
-    boolean existsByEmail(String email);
+    // Served by the partial index on credentialsRevokedAt, which holds only users that revoked their tokens
+    @Query(value = "{ 'credentialsRevokedAt' : { '$gte' : ?0 } }",
+            fields = "{ 'credentialsVersion' : 1, 'credentialsRevokedAt' : 1 }")
+    List<User> findCredentialsRevokedSince(Instant since);
 }
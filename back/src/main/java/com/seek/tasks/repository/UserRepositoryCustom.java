@@ -0,0 +1,15 @@
+package com.seek.tasks.repository;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Atomically bumps a user's credentials version and returns the new value,
+     * or -1 when the user does not exist.
+     */
+    long incrementCredentialsVersion(String userId);
+
+    /**
+     * Replaces the stored password hash; false when the user does not exist.
+     */
+    boolean updatePassword(String username, String encodedPassword);
+}
@@ -0,0 +1,35 @@
+package com.seek.tasks.repository;
+
+import com.seek.tasks.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public long incrementCredentialsVersion(String userId) {
+        Query query = new Query(Criteria.where("id").is(userId));
+        query.fields().include("credentialsVersion");
+        User user = mongoTemplate.findAndModify(
+                query,
+                new Update().inc("credentialsVersion", 1).currentDate("credentialsRevokedAt"),
+                FindAndModifyOptions.options().returnNew(true),
+                User.class);
+        return user != null ? user.getCredentialsVersion() : -1;
+    }
+
+    @Override
+    public boolean updatePassword(String username, String encodedPassword) {
+        return mongoTemplate.updateFirst(
+                new Query(Criteria.where("username").is(username)),
+                new Update().set("password", encodedPassword),
+                User.class).getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.seek.tasks.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pulls revocations made on other instances into the {@link CredentialsVersionRegistry}.
+ * Only stateless mode reads the registry; the default mode checks the loaded user's
+ * credentials version instead, so there is nothing to refresh.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.stateless-principal", havingValue = "true")
+public class CredentialsVersionRefresher {
+
+    @Autowired
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.credentials-version-refresh:PT30S}")
+    public void refresh() {
+        credentialsVersionRegistry.refresh();
+    }
+}
@@ -0,0 +1,59 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import com.seek.tasks.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the minimum credentials version each user's tokens must
+ * carry. Only users that ever revoked their tokens have an entry, so the map
+ * stays small. In stateless mode {@link CredentialsVersionRefresher} pulls in
+ * the revocations made since the previous refresh, so revocations made on other
+ * instances take effect within one refresh interval.
+ */
+@Component
+public class CredentialsVersionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialsVersionRegistry.class);
+
+    // Re-read window behind the newest revocation seen: a revocation stamped just before it
+    // may commit just after the read, and the primary's clock may step back on failover
+    static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, Long> minimumVersions = new ConcurrentHashMap<>();
+
+    // Newest revocation time read so far, in the database's clock; the first refresh reads them all
+    private Instant newestRevocation = Instant.EPOCH;
+
+    public boolean isCurrent(String userId, long tokenVersion) {
+        return tokenVersion >= minimumVersions.getOrDefault(userId, 0L);
+    }
+
+    public void revoke(String userId, long newVersion) {
+        minimumVersions.merge(userId, newVersion, Math::max);
+    }
+
+    public synchronized void refresh() {
+        try {
+            for (User user : userRepository.findCredentialsRevokedSince(newestRevocation.minus(OVERLAP))) {
+                revoke(user.getId(), user.getCredentialsVersion());
+                if (user.getCredentialsRevokedAt() != null && user.getCredentialsRevokedAt().isAfter(newestRevocation)) {
+                    newestRevocation = user.getCredentialsRevokedAt();
+                }
+            }
+        } catch (Exception ex) {
+            logger.error("Could not refresh credentials versions", ex);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.seek.tasks.security;
 
+import com.seek.tasks.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +11,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,6 +25,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
@@ -29,6 +36,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    private JwtFilterMetrics metrics;
+
+    @PostConstruct
+    void init() {
+        metrics = new JwtFilterMetrics(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -36,10 +62,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            Claims claims = StringUtils.hasText(jwt)
+                    ? metrics.verify(() -> tokenProvider.parseClaims(jwt)).orElse(null)
+                    : null;
+
+            UserDetails userDetails = claims != null ? resolvePrincipal(claims) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -57,6 +86,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolvePrincipal(Claims claims) {
+        long tokenVersion = tokenProvider.getCredentialsVersion(claims);
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+
+        // Stateless mode trusts the signed claims; revocation is an in-memory check
+        if (statelessPrincipal && userId != null) {
+            if (!credentialsVersionRegistry.isCurrent(userId, tokenVersion)) {
+                logger.warn("Revoked JWT token for user {}", userId);
+                return null;
+            }
+            return User.builder()
+                    .id(userId)
+                    .username(claims.getSubject())
+                    .email(claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class))
+                    .credentialsVersion(tokenVersion)
+                    .build();
+        }
+
+        UserDetails userDetails = principalCache.get(claims.getSubject(),
+                metrics.timedLookup(userDetailsService::loadUserByUsername));
+        if (userDetails instanceof User user && user.getCredentialsVersion() > tokenVersion) {
+            logger.warn("Revoked JWT token for user {}", user.getId());
+            return null;
+        }
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
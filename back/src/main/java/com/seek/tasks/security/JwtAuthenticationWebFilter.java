@@ -0,0 +1,124 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import com.seek.tasks.repository.ReactiveUserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}. It is added to the
+ * security chain by the reactive security configuration rather than registered
+ * as a bean, so it runs exactly once and inside the chain.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    private final JwtTokenProvider tokenProvider;
+
+    private final ReactiveUserRepository userRepository;
+
+    private final PrincipalCache principalCache;
+
+    private final CredentialsVersionRegistry credentialsVersionRegistry;
+
+    private final boolean statelessPrincipal;
+
+    private final JwtFilterMetrics metrics;
+
+    public JwtAuthenticationWebFilter(JwtTokenProvider tokenProvider,
+                                      ReactiveUserRepository userRepository,
+                                      PrincipalCache principalCache,
+                                      CredentialsVersionRegistry credentialsVersionRegistry,
+                                      boolean statelessPrincipal,
+                                      MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.credentialsVersionRegistry = credentialsVersionRegistry;
+        this.statelessPrincipal = statelessPrincipal;
+        this.metrics = new JwtFilterMetrics(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jwt = getJwtFromRequest(exchange);
+        Claims claims = StringUtils.hasText(jwt)
+                ? metrics.verify(() -> tokenProvider.parseClaims(jwt)).orElse(null)
+                : null;
+        if (claims == null) {
+            return chain.filter(exchange);
+        }
+
+        // Resolved into an Optional first: the chain itself completes empty and must not run twice
+        return resolvePrincipal(claims)
+                .<Authentication>map(userDetails -> new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()))
+                .map(Optional::of)
+                .onErrorResume(ex -> {
+                    logger.error("Could not set user authentication in security context", ex);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private Mono<UserDetails> resolvePrincipal(Claims claims) {
+        long tokenVersion = tokenProvider.getCredentialsVersion(claims);
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+
+        // Stateless mode trusts the signed claims; revocation is an in-memory check
+        if (statelessPrincipal && userId != null) {
+            if (!credentialsVersionRegistry.isCurrent(userId, tokenVersion)) {
+                logger.warn("Revoked JWT token for user {}", userId);
+                return Mono.empty();
+            }
+            return Mono.just(User.builder()
+                    .id(userId)
+                    .username(claims.getSubject())
+                    .email(claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class))
+                    .credentialsVersion(tokenVersion)
+                    .build());
+        }
+
+        String username = claims.getSubject();
+        UserDetails cached = principalCache.getIfPresent(username);
+        Mono<UserDetails> principal = cached != null
+                ? Mono.just(cached)
+                : metrics.timedLookup(userRepository.findByUsername(username))
+                        .doOnNext(user -> principalCache.put(username, user))
+                        .cast(UserDetails.class);
+        return principal.filter(userDetails -> {
+            if (userDetails instanceof User user && user.getCredentialsVersion() > tokenVersion) {
+                logger.warn("Revoked JWT token for user {}", user.getId());
+                return false;
+            }
+            return true;
+        });
+    }
+
+    private String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.seek.tasks.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Timers shared by the servlet and reactive JWT filters, so both modes report
+ * token verification and the user lookup behind a principal cache miss under
+ * the same names.
+ */
+final class JwtFilterMetrics {
+
+    static final String VERIFY = "security.jwt.verify";
+    static final String USER_LOOKUP = "security.jwt.user.lookup";
+
+    private final Timer verifyValid;
+    private final Timer verifyInvalid;
+    private final Timer userLookup;
+
+    JwtFilterMetrics(MeterRegistry meterRegistry) {
+        verifyValid = verifyTimer(meterRegistry, "valid");
+        verifyInvalid = verifyTimer(meterRegistry, "invalid");
+        userLookup = Timer.builder(USER_LOOKUP)
+                .description("Loading the user behind a token when the principal cache misses")
+                .register(meterRegistry);
+    }
+
+    Optional<Claims> verify(Supplier<Optional<Claims>> verification) {
+        long start = System.nanoTime();
+        Optional<Claims> claims = verification.get();
+        (claims.isPresent() ? verifyValid : verifyInvalid).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    <T> Function<String, T> timedLookup(Function<String, T> loader) {
+        return username -> userLookup.record(() -> loader.apply(username));
+    }
+
+    <T> Mono<T> timedLookup(Mono<T> lookup) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return lookup.doFinally(signal -> sample.stop(userLookup));
+        });
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(VERIFY)
+                .description("JWT signature and expiry verification")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
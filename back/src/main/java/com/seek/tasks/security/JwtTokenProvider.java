@@ -1,9 +1,18 @@
 package com.seek.tasks.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.seek.tasks.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,75 +20,196 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_CREDENTIALS_VERSION = "cv";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${jwt.verified-cache.ttl:PT1M}")
+    private Duration verifiedCacheTtl;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        if (verifiedCacheEnabled) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfter(new ClaimsExpiry(verifiedCacheTtl))
+                    .recordStats()
+                    .build();
+            if (meterRegistry != null) {
+                CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verified-tokens");
+            }
+        }
     }
 
     public String generateToken(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof User user) {
+            return generateToken(user);
+        }
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        return generateTokenFromUsername(userDetails.getUsername());
+    }
 
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+    /**
+     * Token carrying the user id, email and credentials version, enough for the
+     * authentication filter to build a principal without reading the user.
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_EMAIL, user.getEmail());
+        claims.put(CLAIM_CREDENTIALS_VERSION, user.getCredentialsVersion());
+        return buildToken(user.getUsername(), claims);
     }
 
     public String generateTokenFromUsername(String username) {
+        return buildToken(username, Map.of());
+    }
+
+    public long getCredentialsVersion(Claims claims) {
+        Object version = claims.get(CLAIM_CREDENTIALS_VERSION);
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private String buildToken(String subject, Map<String, Object> claims) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .subject(username)
+                .subject(subject)
+                .claims(claims)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verifies the token signature and expiry once and returns its claims, or
+     * empty when the token is not acceptable. Recently verified tokens are served
+     * from a cache keyed by the token's SHA-256, never past their own expiry.
+     */
+    public Optional<Claims> parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            logger.error("JWT claims string is empty");
+            return Optional.empty();
+        }
 
-        return claims.getSubject();
-    }
+        String cacheKey = null;
+        if (verifiedTokens != null) {
+            cacheKey = hash(token);
+            Claims cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
 
-    public boolean validateToken(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (cacheKey != null) {
+                verifiedTokens.put(cacheKey, claims);
+            }
+            return Optional.of(claims);
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
             logger.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             logger.error("Unsupported JWT token");
+        } catch (SecurityException ex) {
+            logger.error("Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return jwtParser.parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken).isPresent();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    // Keeps a verified token for the configured TTL, or until the token itself expires
+    private static final class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long ttlNanos;
+
+        private ClaimsExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return ttlNanos;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(ttlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,126 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a BCrypt encoder on a dedicated, bounded pool. Hashing is deliberately
+ * slow, so a burst of logins on request threads would starve every other
+ * endpoint: here at most {@code threads} hashes run at once, {@code queueCapacity}
+ * more wait, and anything beyond is refused at once with
+ * {@link PasswordHashingBusyException} so the caller can answer 503.
+ *
+ * <p>Hashes whose cost differs from the configured one report
+ * {@link #upgradeEncoding(String)}, which makes Spring Security rehash the
+ * password after the next successful login.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    static final String POOL_NAME = "password-hashing";
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final Duration timeout;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Counter rejected;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity,
+                                 Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.strength = strength;
+        this.timeout = timeout;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(POOL_NAME + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, POOL_NAME);
+        this.rejected = Counter.builder("security.password.rejected")
+                .description("Password hashing requests refused because the pool and its queue were full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Non-blocking variant for reactive callers; fails with
+     * {@link PasswordHashingBusyException} when the pool is saturated.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> delegate.encode(rawPassword), executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(busy(ex));
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private <T> T await(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit((Callable<T>) work::get);
+        } catch (RejectedExecutionException ex) {
+            throw busy(ex);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException("Password hashing timed out, please retry", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private PasswordHashingBusyException busy(RejectedExecutionException ex) {
+        rejected.increment();
+        return new PasswordHashingBusyException("Too many concurrent sign-ins, please retry", ex);
+    }
+}
@@ -0,0 +1,91 @@
+package com.seek.tasks.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seek.tasks.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of the principals rebuilt by {@link JwtAuthenticationFilter}
+ * and {@link JwtAuthenticationWebFilter}, keyed by username. Entries are evicted explicitly whenever a user document is
+ * saved or deleted, so the TTL only bounds staleness for out-of-band changes.
+ */
+@Component
+public class PrincipalCache {
+
+    @Value("${security.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.principal-cache.ttl:PT5M}")
+    private Duration ttl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, UserDetails> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        // Loaded outside the cache: Cache.get runs the loader inside ConcurrentHashMap.compute,
+        // whose monitor would pin a virtual thread to its carrier for the whole Mongo round trip.
+        // Concurrent misses for one user may both load, which only costs a duplicate query.
+        UserDetails principal = cache.getIfPresent(username);
+        if (principal == null) {
+            principal = loader.apply(username);
+            if (principal != null) {
+                cache.put(username, principal);
+            }
+        }
+        return principal;
+    }
+
+    // Lookup and store halves of get(), for callers that load the principal asynchronously
+    public UserDetails getIfPresent(String username) {
+        return enabled ? cache.getIfPresent(username) : null;
+    }
+
+    public void put(String username, UserDetails principal) {
+        if (enabled) {
+            cache.put(username, principal);
+        }
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    public void evictByUserId(String userId) {
+        cache.asMap().values().removeIf(principal ->
+                principal instanceof User user && userId.equals(user.getId()));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,37 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached principals when a user is changed or removed through the
+ * repository or template save/delete methods.
+ */
+@Component
+public class PrincipalCacheEvictionListener extends AbstractMongoEventListener<User> {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        principalCache.evict(event.getSource().getUsername());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Document filter = event.getSource();
+        Object id = filter.get("_id");
+        if (id != null && !(id instanceof Document)) {
+            principalCache.evictByUserId(id.toString());
+        } else {
+            // Bulk or criteria deletes do not tell us which users went away
+            principalCache.evictAll();
+        }
+    }
+}
@@ -9,4 +9,6 @@ public interface AuthService {
     AuthResponseDTO register(RegisterRequestDTO registerRequest);
 
     AuthResponseDTO login(LoginRequestDTO loginRequest);
+
+    void revokeTokens(String userId);
 }
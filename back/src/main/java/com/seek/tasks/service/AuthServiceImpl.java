@@ -4,19 +4,24 @@ import com.seek.tasks.dto.AuthResponseDTO;
 import com.seek.tasks.dto.LoginRequestDTO;
 import com.seek.tasks.dto.RegisterRequestDTO;
 import com.seek.tasks.entity.User;
-import com.seek.tasks.exception.ResourceAlreadyExistsException;
 import com.seek.tasks.repository.UserRepository;
+import com.seek.tasks.security.CredentialsVersionRegistry;
 import com.seek.tasks.security.JwtTokenProvider;
+import com.seek.tasks.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AuthServiceImpl implements AuthService {
 
     @Autowired
@@ -31,19 +36,15 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     @Transactional
     public AuthResponseDTO register(RegisterRequestDTO registerRequest) {
-        // Check if username already exists
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new ResourceAlreadyExistsException("Username is already taken");
-        }
-
-        // Check if email already exists
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new ResourceAlreadyExistsException("Email is already registered");
-        }
-
         // Create new user
         User user = User.builder()
                 .username(registerRequest.getUsername())
@@ -51,10 +52,16 @@ public class AuthServiceImpl implements AuthService {
                 .password(passwordEncoder.encode(registerRequest.getPassword()))
                 .build();
 
-        User savedUser = userRepository.save(user);
+        // The unique indexes reject a taken username or email, even under concurrent registrations
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (DuplicateKeyException ex) {
+            throw RegistrationConflicts.translate(ex);
+        }
 
         // Generate JWT token
-        String token = tokenProvider.generateTokenFromUsername(savedUser.getUsername());
+        String token = tokenProvider.generateToken(savedUser);
 
         return AuthResponseDTO.of(
                 token,
@@ -77,12 +84,11 @@ public class AuthServiceImpl implements AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Generate JWT token
-        String token = tokenProvider.generateToken(authentication);
+        // The provider already loaded the user; reusing it keeps login to a single query
+        User user = (User) authentication.getPrincipal();
 
-        // Get user details
-        User user = userRepository.findByUsername(loginRequest.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Generate JWT token
+        String token = tokenProvider.generateToken(user);
 
         return AuthResponseDTO.of(
                 token,
@@ -91,4 +97,16 @@ public class AuthServiceImpl implements AuthService {
                 user.getEmail()
         );
     }
+
+    @Override
+    public void revokeTokens(String userId) {
+        long newVersion = userRepository.incrementCredentialsVersion(userId);
+        if (newVersion < 0) {
+            throw new UsernameNotFoundException("User not found with id: " + userId);
+        }
+        // Only this instance learns at once. Others see it on their next registry refresh
+        // (stateless mode) or once their cached principal expires (security.principal-cache.ttl)
+        credentialsVersionRegistry.revoke(userId, newVersion);
+        principalCache.evictByUserId(userId);
+    }
 }
@@ -2,15 +2,20 @@ package com.seek.tasks.service;
 
 import com.seek.tasks.entity.User;
 import com.seek.tasks.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     @Autowired
     private UserRepository userRepository;
@@ -29,4 +34,20 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
         return user;
     }
+
+    /**
+     * Stores a hash made with the current BCrypt cost after a successful login
+     * with an older one. A failed write only postpones the upgrade.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            if (userRepository.updatePassword(user.getUsername(), newPassword) && user instanceof User entity) {
+                entity.setPassword(newPassword);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not rehash password for user {}", user.getUsername(), ex);
+        }
+        return user;
+    }
 }
@@ -0,0 +1,15 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.AuthResponseDTO;
+import com.seek.tasks.dto.LoginRequestDTO;
+import com.seek.tasks.dto.RegisterRequestDTO;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveAuthService {
+
+    Mono<AuthResponseDTO> register(RegisterRequestDTO registerRequest);
+
+    Mono<AuthResponseDTO> login(LoginRequestDTO loginRequest);
+
+    Mono<Void> revokeTokens(String userId);
+}
@@ -0,0 +1,88 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.AuthResponseDTO;
+import com.seek.tasks.dto.LoginRequestDTO;
+import com.seek.tasks.dto.RegisterRequestDTO;
+import com.seek.tasks.entity.User;
+import com.seek.tasks.repository.ReactiveUserRepository;
+import com.seek.tasks.security.CredentialsVersionRegistry;
+import com.seek.tasks.security.JwtTokenProvider;
+import com.seek.tasks.security.PooledPasswordEncoder;
+import com.seek.tasks.security.PrincipalCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private PooledPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ReactiveAuthenticationManager authenticationManager;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Override
+    public Mono<AuthResponseDTO> register(RegisterRequestDTO registerRequest) {
+        // BCrypt is deliberately slow and runs on the password hashing pool
+        return Mono.fromFuture(() -> passwordEncoder.encodeAsync(registerRequest.getPassword()))
+                // The unique indexes reject a taken username or email, even under concurrent registrations
+                .flatMap(encodedPassword -> userRepository.insert(User.builder()
+                        .username(registerRequest.getUsername())
+                        .email(registerRequest.getEmail())
+                        .password(encodedPassword)
+                        .build()))
+                .onErrorMap(DuplicateKeyException.class, RegistrationConflicts::translate)
+                .map(this::toResponse);
+    }
+
+    @Override
+    public Mono<AuthResponseDTO> login(LoginRequestDTO loginRequest) {
+        // The manager checks the password on a bounded elastic thread and emits the loaded user
+        return authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()))
+                .map(authentication -> toResponse((User) authentication.getPrincipal()));
+    }
+
+    @Override
+    public Mono<Void> revokeTokens(String userId) {
+        return userRepository.incrementCredentialsVersion(userId)
+                .flatMap(newVersion -> {
+                    if (newVersion < 0) {
+                        return Mono.error(new UsernameNotFoundException("User not found with id: " + userId));
+                    }
+                    // Only this instance learns at once. Others see it on their next registry refresh
+                    // (stateless mode) or once their cached principal expires (security.principal-cache.ttl)
+                    credentialsVersionRegistry.revoke(userId, newVersion);
+                    principalCache.evictByUserId(userId);
+                    return Mono.empty();
+                });
+    }
+
+    private AuthResponseDTO toResponse(User user) {
+        return AuthResponseDTO.of(
+                tokenProvider.generateToken(user),
+                user.getId(),
+                user.getUsername(),
+                user.getEmail()
+        );
+    }
+}
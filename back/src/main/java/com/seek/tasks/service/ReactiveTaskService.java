@@ -0,0 +1,55 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking twin of {@link TaskService} backing the reactive deployment
+ * mode. Semantics, errors and stored documents are the same in both modes.
+ */
+public interface ReactiveTaskService {
+
+    Flux<TaskResponseDTO> getAllTasksForUser(String userId, TaskFields fields, TaskFilter filter);
+
+    Mono<TaskPageResponseDTO> getTasksPage(String userId, String cursor, Integer size);
+
+    Mono<TaskBoardDTO> getBoard(String userId, Integer perColumn);
+
+    Mono<TaskPageResponseDTO> getBoardColumn(String userId, String cursor, Integer size);
+
+    Flux<TaskResponseDTO> streamTasksForUser(String userId, String afterId);
+
+    Mono<TaskSearchResponseDTO> searchTasks(String userId, String query, Integer page, Integer size);
+
+    Mono<TaskChangesDTO> getChangesSince(String userId, String since, Integer size);
+
+    Mono<TaskStatsDTO> getTaskStats(String userId);
+
+    Mono<TaskCollectionVersion> getCollectionVersion(String userId);
+
+    Mono<TaskResponseDTO> getTaskById(String taskId, String userId);
+
+    Mono<TaskResponseDTO> createTask(TaskRequestDTO taskRequest, String userId);
+
+    Mono<TaskResponseDTO> updateTask(String taskId, TaskRequestDTO taskRequest, String userId, Long expectedVersion);
+
+    Mono<TaskResponseDTO> updateTaskStatus(String taskId, TaskStatus status, String userId, Long expectedVersion);
+
+    Mono<TaskResponseDTO> markTaskAsCompleted(String taskId, String userId, Long expectedVersion);
+
+    Mono<Void> deleteTask(String taskId, String userId, Long expectedVersion);
+
+    Mono<BatchResponseDTO> executeBatch(List<BatchOperationDTO> operations, boolean ordered, String userId);
+}
@@ -0,0 +1,324 @@
+package com.seek.tasks.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.exception.InvalidCursorException;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.exception.TaskNotFoundException;
+import com.seek.tasks.repository.ReactiveTaskRepository;
+import com.seek.tasks.repository.ReactiveTaskStatsRepository;
+import com.seek.tasks.repository.ReactiveTaskTombstoneRepository;
+import com.seek.tasks.repository.TaskBulkResult;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+
+    @Autowired
+    private ReactiveTaskStatsRepository taskStatsRepository;
+
+    @Autowired
+    private ReactiveTaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private Validator validator;
+
+    // Users whose counters are known to exist, see TaskStatsServiceImpl#seedIfMissing
+    private final Cache<String, Boolean> seededUsers = TaskStatsServiceImpl.seededUsersCache();
+
+    @Value("${tasks.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.pagination.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.search.max-results:1000}")
+    private int maxSearchResults;
+
+    @Value("${tasks.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention;
+
+    @Value("${tasks.sync.settle-window:PT2S}")
+    private Duration settleWindow;
+
+    @Override
+    public Flux<TaskResponseDTO> getAllTasksForUser(String userId, TaskFields fields, TaskFilter filter) {
+        return taskRepository.findViewsByUserId(userId, fields, filter);
+    }
+
+    @Override
+    public Mono<TaskPageResponseDTO> getTasksPage(String userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // Deferred so a malformed cursor surfaces as an error signal rather than a throw
+        return Mono.defer(() -> {
+                    TaskCursor after = StringUtils.hasText(cursor) ? TaskCursor.decode(cursor) : null;
+                    // One extra row tells us whether another page exists without a count query
+                    return taskRepository.findPageByUserId(userId, after, pageSize + 1).collectList();
+                })
+                .map(tasks -> {
+                    boolean hasMore = tasks.size() > pageSize;
+                    List<Task> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+                    return TaskPageResponseDTO.builder()
+                            .items(page.stream().map(TaskServiceImpl::mapToResponseDTO).toList())
+                            .nextCursor(hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null)
+                            .hasMore(hasMore)
+                            .build();
+                });
+    }
+
+    @Override
+    public Flux<TaskResponseDTO> streamTasksForUser(String userId, String afterId) {
+        return Flux.defer(() -> taskRepository.streamByUserId(userId, TaskExport.resumeAfter(afterId)))
+                .map(TaskServiceImpl::mapToResponseDTO);
+    }
+
+    @Override
+    public Mono<TaskBoardDTO> getBoard(String userId, Integer perColumn) {
+        int columnSize = resolvePageSize(perColumn);
+        return Mono.zip(taskRepository.findBoardByUserId(userId, columnSize + 1), getTaskStats(userId),
+                (columns, stats) -> TaskBoard.board(columns, stats, columnSize));
+    }
+
+    @Override
+    public Mono<TaskPageResponseDTO> getBoardColumn(String userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return Mono.defer(() -> {
+                    if (!StringUtils.hasText(cursor)) {
+                        return Mono.error(new InvalidCursorException("A column cursor is required"));
+                    }
+                    TaskBoardCursor after = TaskBoardCursor.decode(cursor);
+                    return taskRepository.findColumnPageByUserId(userId, after.status(), after.after(), pageSize + 1)
+                            .collectList();
+                })
+                .map(tasks -> TaskBoard.page(tasks, pageSize));
+    }
+
+    @Override
+    public Mono<TaskSearchResponseDTO> searchTasks(String userId, String query, Integer page, Integer size) {
+        int pageNumber = TaskSearch.page(page);
+        int pageSize = resolvePageSize(size);
+        long offset = TaskSearch.offset(pageNumber, pageSize);
+        return Mono.fromSupplier(() -> TaskSearch.terms(query))
+                .flatMap(terms -> offset < maxSearchResults
+                        ? taskRepository.searchByUserId(userId, terms, offset, pageSize + 1).collectList()
+                        : Mono.just(List.<Task>of()))
+                .map(tasks -> TaskSearch.results(tasks, pageNumber, pageSize, maxSearchResults));
+    }
+
+    @Override
+    public Mono<TaskChangesDTO> getChangesSince(String userId, String since, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return Mono.defer(() -> {
+            LocalDateTime now = TaskServiceImpl.now();
+            TaskSyncCursor after = TaskSync.resume(since, now, tombstoneRetention);
+            return Mono.zip(
+                    taskRepository.findChangedSince(userId, after, pageSize + 1).collectList(),
+                    taskTombstoneRepository.findDeletedSince(userId, after, pageSize + 1).collectList(),
+                    (tasks, tombstones) -> TaskSync.page(
+                            tasks, tombstones, after, pageSize, now.minus(settleWindow)));
+        });
+    }
+
+    @Override
+    public Mono<TaskStatsDTO> getTaskStats(String userId) {
+        // Counters for users that predate the stats collection are seeded on first read.
+        // A concurrent seed or write may get there first, so the stored counters are read back
+        return taskStatsRepository.findById(userId)
+                .switchIfEmpty(Mono.defer(() -> taskRepository.countByStatus(userId)
+                        .flatMap(counts -> taskStatsRepository.seedCounts(userId, counts)
+                                .doOnSuccess(ignored -> seededUsers.put(userId, Boolean.TRUE))
+                                .then(taskStatsRepository.findById(userId))
+                                .defaultIfEmpty(TaskStatsServiceImpl.toStats(userId, counts)))))
+                .map(TaskStatsServiceImpl::mapToDTO);
+    }
+
+    @Override
+    public Mono<TaskCollectionVersion> getCollectionVersion(String userId) {
+        return taskStatsRepository.findById(userId)
+                .map(TaskCollectionVersion::of)
+                .defaultIfEmpty(TaskCollectionVersion.NONE);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> getTaskById(String taskId, String userId) {
+        return taskRepository.findByIdAndUserId(taskId, userId)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(taskId, userId)))
+                .map(TaskServiceImpl::mapToResponseDTO);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> createTask(TaskRequestDTO taskRequest, String userId) {
+        Task task = Task.builder()
+                .title(taskRequest.getTitle())
+                .description(taskRequest.getDescription())
+                .status(taskRequest.getStatus() != null ? taskRequest.getStatus() : TaskStatus.TODO)
+                .userId(userId)
+                .build();
+
+        return seedStatsIfMissing(userId)
+                .then(Mono.defer(() -> taskRepository.save(task)))
+                .flatMap(saved -> taskStatsRepository.increment(userId, Map.of(saved.getStatus(), 1))
+                        .thenReturn(saved))
+                .map(TaskServiceImpl::mapToResponseDTO);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> updateTask(String taskId, TaskRequestDTO taskRequest, String userId,
+                                            Long expectedVersion) {
+        LocalDateTime now = TaskServiceImpl.now();
+        return seedStatsIfMissing(userId)
+                .then(Mono.defer(() -> taskRepository.findAndUpdate(taskId, userId, expectedVersion,
+                        taskRequest.getTitle(), taskRequest.getDescription(), taskRequest.getStatus(), now)))
+                .switchIfEmpty(Mono.defer(() -> writeRejected(taskId, userId, expectedVersion)))
+                .flatMap(task -> {
+                    // The previous document comes back, so the update is replayed on it for the response
+                    TaskStatus previousStatus = task.getStatus();
+                    task.setTitle(taskRequest.getTitle());
+                    task.setDescription(taskRequest.getDescription());
+                    if (taskRequest.getStatus() != null) {
+                        task.setStatus(taskRequest.getStatus());
+                    }
+                    task.setUpdatedAt(now);
+                    task.setVersion(TaskServiceImpl.versionOf(task) + 1);
+                    return taskStatsRepository.increment(userId,
+                                    TaskStatsServiceImpl.statusChange(previousStatus, task.getStatus()))
+                            .thenReturn(TaskServiceImpl.mapToResponseDTO(task));
+                });
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> updateTaskStatus(String taskId, TaskStatus status, String userId,
+                                                  Long expectedVersion) {
+        return changeStatus(taskId, status, userId, expectedVersion);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> markTaskAsCompleted(String taskId, String userId, Long expectedVersion) {
+        return changeStatus(taskId, TaskStatus.COMPLETED, userId, expectedVersion);
+    }
+
+    @Override
+    public Mono<Void> deleteTask(String taskId, String userId, Long expectedVersion) {
+        return seedStatsIfMissing(userId)
+                .then(Mono.defer(() -> taskRepository.findAndDelete(taskId, userId, expectedVersion)))
+                .switchIfEmpty(Mono.defer(() -> writeRejected(taskId, userId, expectedVersion)))
+                .flatMap(task -> taskTombstoneRepository.recordDeletions(userId, List.of(taskId), TaskServiceImpl.now())
+                        .then(taskStatsRepository.increment(userId, Map.of(task.getStatus(), -1))));
+    }
+
+    @Override
+    public Mono<BatchResponseDTO> executeBatch(List<BatchOperationDTO> operations, boolean ordered, String userId) {
+        return taskRepository.findStatusesByIds(userId, TaskBatchPlan.referencedIds(operations))
+                .flatMap(current -> {
+                    TaskBatchPlan plan = TaskBatchPlan.plan(
+                            operations, ordered, userId, current, validator, TaskServiceImpl.now());
+                    Mono<TaskBulkResult> bulk = plan.writes().isEmpty()
+                            ? Mono.just(new TaskBulkResult(Map.of(), 0, 0))
+                            : seedStatsIfMissing(userId)
+                                    .then(Mono.defer(() -> taskRepository.bulkWrite(userId, plan.writes(), ordered)));
+                    return bulk.flatMap(result -> {
+                        // Only when an update or delete matched nothing are its tasks read back
+                        Set<String> unconfirmed = plan.unconfirmedIds(result);
+                        Mono<Map<String, TaskStatus>> stored = unconfirmed.isEmpty()
+                                ? Mono.just(Map.of())
+                                : taskRepository.findStatusesByIds(userId, unconfirmed);
+                        return stored.flatMap(statuses -> {
+                            BatchResponseDTO response = plan.complete(result, statuses);
+                            Mono<Void> tombstones = taskTombstoneRepository.recordDeletions(
+                                    userId, plan.deletedIds(), TaskServiceImpl.now());
+                            if (plan.deltasUnknown()) {
+                                return tombstones.then(taskStatsRepository.increment(userId, Map.of()))
+                                        .then(recountStats(userId))
+                                        .thenReturn(response);
+                            }
+                            return plan.changed()
+                                    ? tombstones.then(taskStatsRepository.increment(userId, plan.deltas()))
+                                            .thenReturn(response)
+                                    : tombstones.thenReturn(response);
+                        });
+                    });
+                });
+    }
+
+    private Mono<TaskResponseDTO> changeStatus(String taskId, TaskStatus status, String userId,
+                                               Long expectedVersion) {
+        LocalDateTime now = TaskServiceImpl.now();
+        return seedStatsIfMissing(userId)
+                .then(Mono.defer(() -> taskRepository.findAndUpdateStatus(taskId, userId, expectedVersion, status, now)))
+                .switchIfEmpty(Mono.defer(() -> writeRejected(taskId, userId, expectedVersion)))
+                .flatMap(task -> {
+                    TaskStatus previousStatus = task.getStatus();
+                    task.setStatus(status);
+                    task.setUpdatedAt(now);
+                    task.setVersion(TaskServiceImpl.versionOf(task) + 1);
+                    return taskStatsRepository.increment(userId, TaskStatsServiceImpl.statusChange(previousStatus, status))
+                            .thenReturn(TaskServiceImpl.mapToResponseDTO(task));
+                });
+    }
+
+    // Counters must exist before the task write, or its delta would become the whole count
+    private Mono<Void> seedStatsIfMissing(String userId) {
+        if (seededUsers.getIfPresent(userId) != null) {
+            return Mono.empty();
+        }
+        return taskStatsRepository.existsById(userId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : taskRepository.countByStatus(userId)
+                                .flatMap(counts -> taskStatsRepository.seedCounts(userId, counts)))
+                .doOnSuccess(ignored -> seededUsers.put(userId, Boolean.TRUE));
+    }
+
+    // See TaskStatsService#recount
+    private Mono<Void> recountStats(String userId) {
+        return taskStatsRepository.findById(userId)
+                .flatMap(stats -> taskRepository.countByStatus(userId)
+                        .flatMap(counts -> taskStatsRepository.replaceCounts(userId, counts, stats.getChangeVersion())))
+                .then();
+    }
+
+    // A conditional write that matched nothing is only a conflict if the task still exists
+    private Mono<Task> writeRejected(String taskId, String userId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(new TaskNotFoundException(taskId, userId));
+        }
+        return taskRepository.existsByIdAndUserId(taskId, userId)
+                .flatMap(exists -> Mono.error(exists
+                        ? new PreconditionFailedException(taskId, expectedVersion)
+                        : new TaskNotFoundException(taskId, userId)));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,34 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.entity.User;
+import com.seek.tasks.exception.ResourceAlreadyExistsException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the duplicate key error of a registration insert into the conflict the
+ * client sees. The server names the violated index in its message, e.g.
+ * {@code E11000 duplicate key error collection: tasks_db.users index: email dup key: ...}.
+ */
+final class RegistrationConflicts {
+
+    // Older servers report the index qualified as "db.collection.$name"
+    private static final Pattern INDEX_NAME = Pattern.compile("index: (?:\\S*\\$)?(\\w+)");
+
+    private RegistrationConflicts() {
+    }
+
+    static ResourceAlreadyExistsException translate(DuplicateKeyException ex) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        Matcher matcher = INDEX_NAME.matcher(message != null ? message : "");
+        String index = matcher.find() ? matcher.group(1) : "";
+        return switch (index) {
+            case User.USERNAME_INDEX -> new ResourceAlreadyExistsException("Username is already taken");
+            case User.EMAIL_INDEX -> new ResourceAlreadyExistsException("Email is already registered");
+            default -> new ResourceAlreadyExistsException("Username or email is already registered");
+        };
+    }
+}
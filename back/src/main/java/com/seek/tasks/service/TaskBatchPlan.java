@@ -0,0 +1,329 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.BatchItemResultDTO;
+import com.seek.tasks.dto.BatchItemResultDTO.Outcome;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.repository.TaskBulkResult;
+import com.seek.tasks.repository.TaskBulkWrite;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a batch request into bulk writes and the bulk outcome back into
+ * per-item results and counter deltas. Holds no I/O, so the blocking and
+ * reactive services share it around their own repository calls.
+ */
+final class TaskBatchPlan {
+
+    private static final Set<TaskBulkWrite.Kind> UPDATES = EnumSet.of(TaskBulkWrite.Kind.UPDATE, TaskBulkWrite.Kind.STATUS);
+    private static final Set<TaskBulkWrite.Kind> DELETES = EnumSet.of(TaskBulkWrite.Kind.DELETE);
+
+    private final List<BatchOperationDTO> operations;
+    private final boolean ordered;
+    private final BatchItemResultDTO[] results;
+    private final List<PlannedWrite> planned = new ArrayList<>();
+    private final Map<TaskStatus, Integer> deltas = new EnumMap<>(TaskStatus.class);
+    private final List<String> deletedIds = new ArrayList<>();
+    private boolean changed;
+    private boolean deltasUnknown;
+
+    private TaskBatchPlan(List<BatchOperationDTO> operations, boolean ordered) {
+        this.operations = operations;
+        this.ordered = ordered;
+        this.results = new BatchItemResultDTO[operations.size()];
+    }
+
+    static Set<String> referencedIds(List<BatchOperationDTO> operations) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (BatchOperationDTO operation : operations) {
+            if (operation != null && operation.getType() != BatchOperationDTO.OperationType.CREATE
+                    && operation.getId() != null && ObjectId.isValid(operation.getId())) {
+                ids.add(operation.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Validates each operation against the statuses currently stored. The map is
+     * copied and kept in step with the planned writes so later operations see
+     * earlier ones. In an ordered batch planning stops at the first rejection.
+     */
+    static TaskBatchPlan plan(List<BatchOperationDTO> operations, boolean ordered, String userId,
+                              Map<String, TaskStatus> statuses, Validator validator, LocalDateTime now) {
+        TaskBatchPlan plan = new TaskBatchPlan(operations, ordered);
+        Map<String, TaskStatus> current = new HashMap<>(statuses);
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO operation = operations.get(i);
+            String error = validate(operation, validator);
+            if (error != null) {
+                plan.results[i] = result(i, operation, idOf(operation), Outcome.INVALID, error);
+            } else if (operation.getType() != BatchOperationDTO.OperationType.CREATE
+                    && !current.containsKey(operation.getId())) {
+                plan.results[i] = result(i, operation, operation.getId(), Outcome.NOT_FOUND, "Task not found");
+            } else {
+                plan.planned.add(planWrite(i, operation, current, userId, now));
+                continue;
+            }
+            if (ordered) {
+                break;
+            }
+        }
+        return plan;
+    }
+
+    List<TaskBulkWrite> writes() {
+        return planned.stream().map(PlannedWrite::write).toList();
+    }
+
+    /**
+     * Ids to read back when the bulk counts show that an executed update or
+     * delete matched nothing, typically because the task was deleted after it
+     * was planned. Empty when every one of them matched.
+     */
+    Set<String> unconfirmedIds(TaskBulkResult result) {
+        List<PlannedWrite> executed = executed(result.errors());
+        Set<String> ids = new LinkedHashSet<>();
+        if (count(executed, UPDATES) > result.matched() || count(executed, DELETES) > result.deleted()) {
+            for (PlannedWrite write : executed) {
+                if (write.is(UPDATES) || write.is(DELETES)) {
+                    ids.add(write.id());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Builds the response from the bulk result, with the errors keyed by write
+     * position. In an ordered batch nothing after the first failed write was
+     * executed. {@code stored} holds the current statuses of the
+     * {@link #unconfirmedIds unconfirmed ids}.
+     */
+    BatchResponseDTO complete(TaskBulkResult result, Map<String, TaskStatus> stored) {
+        Map<Integer, String> errors = result.errors();
+        int firstError = firstError(errors);
+        Set<Integer> missed = missed(executed(errors), result, stored);
+
+        for (int w = 0; w < planned.size(); w++) {
+            PlannedWrite write = planned.get(w);
+            BatchOperationDTO operation = operations.get(write.index());
+            if (errors.containsKey(w)) {
+                results[write.index()] = result(write.index(), operation, write.id(), Outcome.FAILED, errors.get(w));
+            } else if (w > firstError) {
+                results[write.index()] = result(write.index(), operation, write.id(), Outcome.SKIPPED, null);
+            } else if (missed.contains(write.index())) {
+                results[write.index()] = result(write.index(), operation, write.id(), Outcome.NOT_FOUND,
+                        "Task not found");
+            } else {
+                results[write.index()] = result(write.index(), operation, write.id(), Outcome.OK, null);
+                changed = true;
+                if (write.from() != null) {
+                    deltas.merge(write.from(), -1, Integer::sum);
+                }
+                if (write.to() != null) {
+                    deltas.merge(write.to(), 1, Integer::sum);
+                }
+                if (write.write().kind() == TaskBulkWrite.Kind.DELETE) {
+                    deletedIds.add(write.id());
+                }
+            }
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = result(i, operations.get(i), idOf(operations.get(i)), Outcome.SKIPPED, null);
+            }
+        }
+        int succeeded = (int) Arrays.stream(results).filter(r -> r.getOutcome() == Outcome.OK).count();
+        return BatchResponseDTO.builder()
+                .ordered(ordered)
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    boolean changed() {
+        return changed;
+    }
+
+    /**
+     * Whether the writes that matched nothing could not all be told apart, so
+     * {@link #deltas()} cannot be trusted and the counters must be recounted.
+     */
+    boolean deltasUnknown() {
+        return deltasUnknown;
+    }
+
+    Map<TaskStatus, Integer> deltas() {
+        return Collections.unmodifiableMap(deltas);
+    }
+
+    /**
+     * Ids of the tasks the bulk request deleted, which need tombstones.
+     */
+    List<String> deletedIds() {
+        return Collections.unmodifiableList(deletedIds);
+    }
+
+    // Writes the server ran without error; in an ordered batch those before the first failure
+    private List<PlannedWrite> executed(Map<Integer, String> errors) {
+        int firstError = firstError(errors);
+        List<PlannedWrite> executed = new ArrayList<>();
+        for (int w = 0; w < planned.size() && w < firstError; w++) {
+            if (!errors.containsKey(w)) {
+                executed.add(planned.get(w));
+            }
+        }
+        return executed;
+    }
+
+    // The server only reports totals, so the writes that matched nothing are picked out from
+    // what is stored now. An update missed if its task is gone, unless this batch deleted the
+    // task afterwards. A delete leaves nothing behind either way, so deletes are only told
+    // apart when all of them missed. Anything left ambiguous is settled by a recount.
+    private Set<Integer> missed(List<PlannedWrite> executed, TaskBulkResult result, Map<String, TaskStatus> stored) {
+        Set<Integer> missed = new HashSet<>();
+        List<PlannedWrite> deletes = executed.stream().filter(write -> write.is(DELETES)).toList();
+        int missedUpdates = count(executed, UPDATES) - result.matched();
+        int missedDeletes = deletes.size() - result.deleted();
+        if (missedUpdates > 0) {
+            Set<String> deletedByBatch = new HashSet<>(deletes.stream().map(PlannedWrite::id).toList());
+            List<PlannedWrite> gone = executed.stream()
+                    .filter(write -> write.is(UPDATES) && !stored.containsKey(write.id())
+                            && !deletedByBatch.contains(write.id()))
+                    .toList();
+            gone.forEach(write -> missed.add(write.index()));
+            deltasUnknown |= gone.size() != missedUpdates;
+        }
+        if (missedDeletes > 0) {
+            if (missedDeletes == deletes.size()) {
+                deletes.forEach(write -> missed.add(write.index()));
+            } else {
+                deltasUnknown = true;
+            }
+        }
+        return missed;
+    }
+
+    private int firstError(Map<Integer, String> errors) {
+        return ordered ? errors.keySet().stream().min(Integer::compare).orElse(Integer.MAX_VALUE) : Integer.MAX_VALUE;
+    }
+
+    private static int count(List<PlannedWrite> writes, Set<TaskBulkWrite.Kind> kinds) {
+        return (int) writes.stream().filter(write -> write.is(kinds)).count();
+    }
+
+    private static String idOf(BatchOperationDTO operation) {
+        return operation != null ? operation.getId() : null;
+    }
+
+    private static String validate(BatchOperationDTO operation, Validator validator) {
+        if (operation == null || operation.getType() == null) {
+            return "Operation type is required";
+        }
+        if (operation.getType() != BatchOperationDTO.OperationType.CREATE
+                && (operation.getId() == null || !ObjectId.isValid(operation.getId()))) {
+            return "A valid task id is required";
+        }
+        switch (operation.getType()) {
+            case CREATE, UPDATE -> {
+                TaskRequestDTO request = TaskRequestDTO.builder()
+                        .title(operation.getTitle())
+                        .description(operation.getDescription())
+                        .status(operation.getStatus())
+                        .build();
+                Set<ConstraintViolation<TaskRequestDTO>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    return violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining("; "));
+                }
+            }
+            case STATUS -> {
+                if (operation.getStatus() == null) {
+                    return "Status is required";
+                }
+            }
+            case DELETE -> {
+            }
+        }
+        return null;
+    }
+
+    private static PlannedWrite planWrite(int index, BatchOperationDTO operation, Map<String, TaskStatus> current,
+                                          String userId, LocalDateTime now) {
+        String id = operation.getId();
+        TaskStatus previous = current.get(id);
+        return switch (operation.getType()) {
+            case CREATE -> {
+                // The id is assigned here so it can be reported back per item
+                Task task = Task.builder()
+                        .id(new ObjectId().toHexString())
+                        .title(operation.getTitle())
+                        .description(operation.getDescription())
+                        .status(operation.getStatus() != null ? operation.getStatus() : TaskStatus.TODO)
+                        .userId(userId)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version(0L)
+                        .build();
+                yield new PlannedWrite(index, task.getId(), TaskBulkWrite.insert(task), null, task.getStatus());
+            }
+            case UPDATE -> {
+                TaskStatus next = operation.getStatus() != null ? operation.getStatus() : previous;
+                current.put(id, next);
+                yield new PlannedWrite(index, id, TaskBulkWrite.update(
+                        id, operation.getTitle(), operation.getDescription(), operation.getStatus()), previous, next);
+            }
+            case STATUS -> {
+                current.put(id, operation.getStatus());
+                yield new PlannedWrite(index, id, TaskBulkWrite.status(id, operation.getStatus()),
+                        previous, operation.getStatus());
+            }
+            case DELETE -> {
+                current.remove(id);
+                yield new PlannedWrite(index, id, TaskBulkWrite.delete(id), previous, null);
+            }
+        };
+    }
+
+    private static BatchItemResultDTO result(int index, BatchOperationDTO operation, String id,
+                                             Outcome outcome, String message) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .type(operation != null ? operation.getType() : null)
+                .id(id)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+
+    private record PlannedWrite(int index, String id, TaskBulkWrite write, TaskStatus from, TaskStatus to) {
+
+        boolean is(Set<TaskBulkWrite.Kind> kinds) {
+            return kinds.contains(write.kind());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.seek.tasks.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.exception.BatchTooLargeException;
+import com.seek.tasks.exception.InvalidBatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a JSON array of batch operations one element at a time, so an
+ * oversized batch is rejected as soon as the limit is crossed instead of
+ * after the whole body has been bound.
+ */
+@Component
+public class TaskBatchReader {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tasks.batch.max-operations:500}")
+    private int maxOperations;
+
+    public List<BatchOperationDTO> read(InputStream body) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidBatchException("Batch body must be a JSON array of operations");
+            }
+            List<BatchOperationDTO> operations = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new InvalidBatchException("Unexpected end of batch body");
+                }
+                if (operations.size() == maxOperations) {
+                    throw new BatchTooLargeException(maxOperations);
+                }
+                operations.add(objectMapper.readValue(parser, BatchOperationDTO.class));
+            }
+            if (operations.isEmpty()) {
+                throw new InvalidBatchException("Batch must contain at least one operation");
+            }
+            return operations;
+        } catch (JsonProcessingException ex) {
+            throw new InvalidBatchException("Malformed batch body: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskBoardColumnDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.repository.TaskBoardColumn;
+
+import java.util.List;
+
+/**
+ * Builds board responses for the blocking and reactive services. Columns are
+ * read with one extra task, which only tells whether the column has more.
+ * Totals come from the user's counters, the same ones behind the stats endpoint.
+ */
+final class TaskBoard {
+
+    private TaskBoard() {
+    }
+
+    static TaskBoardDTO board(List<TaskBoardColumn> columns, TaskStatsDTO stats, int perColumn) {
+        return TaskBoardDTO.builder()
+                .columns(columns.stream().map(column -> column(column, stats, perColumn)).toList())
+                .build();
+    }
+
+    static TaskPageResponseDTO page(List<Task> tasks, int size) {
+        boolean hasMore = tasks.size() > size;
+        List<Task> page = hasMore ? tasks.subList(0, size) : tasks;
+        return TaskPageResponseDTO.builder()
+                .items(page.stream().map(TaskServiceImpl::mapToResponseDTO).toList())
+                .nextCursor(hasMore ? TaskBoardCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static TaskBoardColumnDTO column(TaskBoardColumn column, TaskStatsDTO stats, int perColumn) {
+        TaskPageResponseDTO page = page(column.tasks(), perColumn);
+        return TaskBoardColumnDTO.builder()
+                .status(column.status())
+                .total(total(stats, column.status()))
+                .items(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .hasMore(page.isHasMore())
+                .build();
+    }
+
+    private static long total(TaskStatsDTO stats, TaskStatus status) {
+        return switch (status) {
+            case TODO -> stats.getTodo();
+            case IN_PROGRESS -> stats.getInProgress();
+            case COMPLETED -> stats.getCompleted();
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last task shown in one board column. The column travels
+ * inside the token, so each column loads more on its own.
+ */
+public record TaskBoardCursor(TaskStatus status, TaskCursor after) {
+
+    private static final String SEPARATOR = ":";
+
+    public static TaskBoardCursor of(Task task) {
+        return new TaskBoardCursor(task.getStatus(), TaskCursor.of(task));
+    }
+
+    public String encode() {
+        String raw = status.name() + SEPARATOR + after.encode();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskBoardCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new TaskBoardCursor(TaskStatus.valueOf(raw.substring(0, separator)),
+                    TaskCursor.decode(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory fan-out of task changes to the connections of their owner. Idle
+ * connections cost a map entry, not a thread. A subscriber whose buffer is full
+ * is evicted rather than allowed to hold back the stream for everyone else.
+ */
+public class TaskChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private final Map<String, Set<TaskChangeSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter published;
+    private final Counter evicted;
+
+    public TaskChangeFeed(MeterRegistry meterRegistry) {
+        Gauge.builder("tasks.changes.subscribers", connections, AtomicInteger::get)
+                .description("Open task change feed connections")
+                .register(meterRegistry);
+        this.published = Counter.builder("tasks.changes.published")
+                .description("Task change events delivered to subscriber buffers")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("tasks.changes.evicted")
+                .description("Change feed connections closed because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a connection for the user's changes; run the returned handle
+     * when the connection ends.
+     */
+    public Runnable subscribe(String userId, TaskChangeSubscriber subscriber) {
+        // compute() keeps this atomic with the removal of an emptied set in unsubscribe()
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            Set<TaskChangeSubscriber> set = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        connections.incrementAndGet();
+        return () -> unsubscribe(userId, subscriber);
+    }
+
+    public void publish(String userId, TaskChangeEventDTO event) {
+        Set<TaskChangeSubscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (TaskChangeSubscriber subscriber : userSubscribers) {
+            if (subscriber.offer(event)) {
+                published.increment();
+            } else {
+                evict(userId, subscriber);
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle connections and surfaces dead peers
+    @Scheduled(fixedDelayString = "${tasks.changes.heartbeat-interval:PT30S}",
+            initialDelayString = "${tasks.changes.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.forEach((userId, userSubscribers) -> {
+            for (TaskChangeSubscriber subscriber : userSubscribers) {
+                if (!subscriber.offerHeartbeat()) {
+                    evict(userId, subscriber);
+                }
+            }
+        });
+    }
+
+    public int subscriberCount() {
+        return connections.get();
+    }
+
+    private void evict(String userId, TaskChangeSubscriber subscriber) {
+        if (unsubscribe(userId, subscriber)) {
+            evicted.increment();
+            logger.debug("Evicted a slow change feed subscriber of user {}", userId);
+            subscriber.evict();
+        }
+    }
+
+    private boolean unsubscribe(String userId, TaskChangeSubscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(userId, (key, userSubscribers) -> {
+            removed[0] = userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+        return removed[0];
+    }
+}
@@ -0,0 +1,214 @@
+package com.seek.tasks.service;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO.ChangeType;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.TaskTombstone;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the single change stream on the tasks and their tombstones and hands
+ * every create, update and delete to the {@link TaskChangeFeed}. Deletes are
+ * taken from the tombstone each one leaves, which names the owner, so the tasks
+ * collection needs no pre-images. One platform thread
+ * serves all connections of this instance. After an error the stream is
+ * reopened from the last resume token, so no change is skipped. When the server
+ * can no longer resume from that token, the stream reopens from the present and
+ * the changes in between only reach clients through {@code /api/tasks/changes}.
+ *
+ * <p>Change streams need a replica set; on a standalone server the watcher
+ * keeps retrying and the feed only sends heartbeats. Updates carry only the
+ * changed fields, so by default the server looks each updated task up again.
+ * Where operations has enabled post-images on the tasks collection, the watcher
+ * can be told to use them instead and the extra read goes away.
+ */
+public class TaskChangeStreamWatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeStreamWatcher.class);
+
+    private static final Duration MAX_AWAIT = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    // ChangeStreamHistoryLost, InvalidResumeToken and ChangeStreamFatalError (a token older than the oplog)
+    private static final Set<Integer> UNRESUMABLE = Set.of(286, 260, 280);
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskChangeFeed feed;
+    private final boolean postImages;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private BsonDocument resumeToken;
+
+    public TaskChangeStreamWatcher(MongoTemplate mongoTemplate, TaskChangeFeed feed, boolean postImages) {
+        this.mongoTemplate = mongoTemplate;
+        this.feed = feed;
+        this.postImages = postImages;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "task-change-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(MAX_AWAIT.multipliedBy(2).toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = MAX_AWAIT;
+        while (running) {
+            try {
+                watch();
+                backoff = MAX_AWAIT;
+            } catch (MongoException ex) {
+                if (!running) {
+                    return;
+                }
+                if (resumeToken != null && UNRESUMABLE.contains(ex.getCode())) {
+                    logger.error("Task change stream cannot resume from its token, reopening from now; "
+                            + "changes made meanwhile reach clients only when they sync through /changes: {}",
+                            ex.getMessage());
+                    resumeToken = null;
+                    continue;
+                }
+                logger.warn("Task change stream failed, reopening in {}: {}", backoff, ex.getMessage());
+                if (!sleep(backoff)) {
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void watch() {
+        // Tombstones are only ever inserted for a delete; the compactor's removals are not changes
+        var stream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.or(
+                        Filters.and(Filters.eq("ns.coll", mongoTemplate.getCollectionName(Task.class)),
+                                Filters.in("operationType", "insert", "update", "replace")),
+                        Filters.and(Filters.eq("ns.coll", mongoTemplate.getCollectionName(TaskTombstone.class)),
+                                Filters.eq("operationType", "insert"))))))
+                .fullDocument(postImages ? FullDocument.WHEN_AVAILABLE : FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(MAX_AWAIT.toMillis(), TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream.resumeAfter(resumeToken);
+        }
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    dispatch(change);
+                }
+                // Also advances on empty batches, so a resume never starts far behind
+                if (cursor.getResumeToken() != null) {
+                    resumeToken = cursor.getResumeToken();
+                }
+            }
+        }
+    }
+
+    private void dispatch(ChangeStreamDocument<Document> change) {
+        try {
+            route(change);
+        } catch (RuntimeException ex) {
+            // One unreadable document must not stall the stream on the same resume token
+            logger.error("Could not dispatch task change {}", change.getDocumentKey(), ex);
+        }
+    }
+
+    private void route(ChangeStreamDocument<Document> change) {
+        Document owner = change.getFullDocument();
+        boolean tombstone = mongoTemplate.getCollectionName(TaskTombstone.class)
+                .equals(change.getNamespace() != null ? change.getNamespace().getCollectionName() : null);
+        TaskChangeEventDTO event = tombstone ? toDeletion(change) : toEvent(change, mongoTemplate.getConverter());
+        if (event == null || owner == null || owner.getString("userId") == null) {
+            // An update of a task deleted before the lookup, or one without a post-image
+            logger.debug("Skipping task change that cannot be routed: {}", change.getOperationType());
+            return;
+        }
+        feed.publish(owner.getString("userId"), event);
+    }
+
+    static TaskChangeEventDTO toEvent(ChangeStreamDocument<Document> change, MongoConverter converter) {
+        return switch (change.getOperationType()) {
+            case INSERT -> withTask(ChangeType.CREATED, change, converter);
+            case UPDATE, REPLACE -> withTask(ChangeType.UPDATED, change, converter);
+            default -> null;
+        };
+    }
+
+    // A tombstone is keyed by the id of the task it records
+    static TaskChangeEventDTO toDeletion(ChangeStreamDocument<Document> change) {
+        return TaskChangeEventDTO.builder()
+                .type(ChangeType.DELETED)
+                .taskId(idOf(change.getDocumentKey()))
+                .build();
+    }
+
+    private static TaskChangeEventDTO withTask(ChangeType type, ChangeStreamDocument<Document> change,
+                                               MongoConverter converter) {
+        if (change.getFullDocument() == null) {
+            return null;
+        }
+        Task task = converter.read(Task.class, change.getFullDocument());
+        return TaskChangeEventDTO.builder()
+                .type(type)
+                .taskId(task.getId())
+                .task(TaskServiceImpl.mapToResponseDTO(task))
+                .build();
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskChangeEventDTO;
+
+/**
+ * One open change-feed connection. Implementations buffer a bounded number of
+ * events and write them out on their own; none of these methods may block,
+ * since the feed calls them from the thread reading the change stream.
+ */
+public interface TaskChangeSubscriber {
+
+    /**
+     * Queues an event; false when the buffer is full.
+     */
+    boolean offer(TaskChangeEventDTO event);
+
+    /**
+     * Queues a keep-alive; false when the buffer is full.
+     */
+    boolean offerHeartbeat();
+
+    /**
+     * Closes a connection that fell too far behind.
+     */
+    void evict();
+}
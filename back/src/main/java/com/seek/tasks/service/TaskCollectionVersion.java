@@ -0,0 +1,26 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.entity.TaskStats;
+
+import java.time.Instant;
+
+/**
+ * Version of a user's whole task collection: the {@code changeVersion} of their
+ * {@link TaskStats}, so a conditional request costs one read by id and never
+ * touches the tasks. {@code lastModified} is null until the first counted write.
+ *
+ * <p>The version is bumped by the counter update that follows each task write,
+ * a separate step from the write itself. Collection reads take the version
+ * before the data, so a write racing a read leaves the ETag older than the body
+ * and only costs the client one more full response. A read that falls between a
+ * task write and its counter update can still be answered 304 for that moment;
+ * if the counter update fails, the version lags until the user's next write.
+ */
+public record TaskCollectionVersion(long version, Instant lastModified) {
+
+    static final TaskCollectionVersion NONE = new TaskCollectionVersion(0, null);
+
+    static TaskCollectionVersion of(TaskStats stats) {
+        return new TaskCollectionVersion(stats.getChangeVersion(), stats.getLastModified());
+    }
+}
@@ -0,0 +1,53 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.exception.InvalidCursorException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last task returned in a page. Clients only ever see the
+ * opaque {@link #encode() encoded} form.
+ */
+public record TaskCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public String encode() {
+        String millis = createdAt != null
+                ? Long.toString(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli())
+                : "";
+        String raw = millis + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            String millis = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            if (!ObjectId.isValid(id)) {
+                throw new InvalidCursorException();
+            }
+            LocalDateTime createdAt = millis.isEmpty()
+                    ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(millis)), ZoneOffset.UTC);
+            return new TaskCursor(createdAt, id);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.exception.InvalidCursorException;
+import org.bson.types.ObjectId;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resume position of a task export, checked before the export starts so a bad
+ * one is still answered with 400 rather than a broken stream.
+ */
+public final class TaskExport {
+
+    private TaskExport() {
+    }
+
+    /**
+     * The id to resume after, or {@code null} to export from the first task.
+     */
+    public static String resumeAfter(String afterId) {
+        if (!StringUtils.hasText(afterId)) {
+            return null;
+        }
+        if (!ObjectId.isValid(afterId)) {
+            throw new InvalidCursorException("Invalid resume position: " + afterId);
+        }
+        return afterId;
+    }
+}
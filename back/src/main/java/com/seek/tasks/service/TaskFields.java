@@ -0,0 +1,82 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.exception.InvalidFieldsException;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldset of a task list, parsed from {@code ?fields=title,status}.
+ * Only these fields are read from Mongo and written to the response; the id
+ * is always included so clients can address the tasks they got.
+ */
+public record TaskFields(Set<String> names) {
+
+    private static final Map<String, Function<TaskResponseDTO, Object>> ACCESSORS = accessors();
+
+    public static final TaskFields ALL = new TaskFields(Collections.unmodifiableSet(ACCESSORS.keySet()));
+
+    public static TaskFields parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!ACCESSORS.containsKey(name)) {
+                throw new InvalidFieldsException(name, ACCESSORS.keySet());
+            }
+            requested.add(name);
+        }
+        // Keep the declaration order so responses look the same whatever the request order
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : ACCESSORS.keySet()) {
+            if (name.equals("id") || requested.contains(name)) {
+                names.add(name);
+            }
+        }
+        return names.size() == ACCESSORS.size() ? ALL : new TaskFields(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names.size() == ACCESSORS.size();
+    }
+
+    /**
+     * The selected fields of one task, for serialising without the others.
+     */
+    public Map<String, Object> select(TaskResponseDTO task) {
+        Map<String, Object> view = new LinkedHashMap<>(names.size() * 2);
+        for (String name : names) {
+            view.put(name, ACCESSORS.get(name).apply(task));
+        }
+        return view;
+    }
+
+    /**
+     * Selects the fields of each task, or returns the tasks themselves when every
+     * field was requested.
+     */
+    public List<?> selectAll(List<TaskResponseDTO> tasks) {
+        return isAll() ? tasks : tasks.stream().map(this::select).toList();
+    }
+
+    private static Map<String, Function<TaskResponseDTO, Object>> accessors() {
+        Map<String, Function<TaskResponseDTO, Object>> accessors = new LinkedHashMap<>();
+        accessors.put("id", TaskResponseDTO::getId);
+        accessors.put("title", TaskResponseDTO::getTitle);
+        accessors.put("description", TaskResponseDTO::getDescription);
+        accessors.put("status", TaskResponseDTO::getStatus);
+        accessors.put("createdAt", TaskResponseDTO::getCreatedAt);
+        accessors.put("updatedAt", TaskResponseDTO::getUpdatedAt);
+        accessors.put("version", TaskResponseDTO::getVersion);
+        return accessors;
+    }
+}
@@ -0,0 +1,113 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.exception.InvalidFilterException;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filter and order of a task list, parsed from {@code ?status=TODO,IN_PROGRESS
+ * &createdFrom=&createdTo=&updatedFrom=&updatedTo=&sort=updatedAt&direction=desc}.
+ * Ranges include their start and exclude their end. Only the two timestamps
+ * can be sorted on, since each has an index per filter shape.
+ */
+public record TaskFilter(Set<TaskStatus> statuses, LocalDateTime createdFrom, LocalDateTime createdTo,
+                         LocalDateTime updatedFrom, LocalDateTime updatedTo, SortKey sort,
+                         Sort.Direction direction) {
+
+    public static final TaskFilter NONE = new TaskFilter(Set.of(), null, null, null, null, null, null);
+
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt");
+
+        private final String field;
+
+        SortKey(String field) {
+            this.field = field;
+        }
+
+        public String field() {
+            return field;
+        }
+    }
+
+    public static TaskFilter parse(String status, String createdFrom, String createdTo, String updatedFrom,
+                                   String updatedTo, String sort, String direction) {
+        TaskFilter filter = new TaskFilter(statuses(status), time("createdFrom", createdFrom),
+                time("createdTo", createdTo), time("updatedFrom", updatedFrom), time("updatedTo", updatedTo),
+                sortKey(sort), direction(direction));
+        if (filter.equals(NONE)) {
+            return NONE;
+        }
+        // Any filter comes back in a defined order, newest first unless asked otherwise
+        return new TaskFilter(filter.statuses, filter.createdFrom, filter.createdTo, filter.updatedFrom,
+                filter.updatedTo, filter.sort != null ? filter.sort : SortKey.CREATED_AT,
+                filter.direction != null ? filter.direction : Sort.Direction.DESC);
+    }
+
+    /**
+     * True when neither a filter nor an order was requested, so the list is
+     * read exactly as before filtering existed.
+     */
+    public boolean isNone() {
+        return this.equals(NONE);
+    }
+
+    private static Set<TaskStatus> statuses(String status) {
+        if (!StringUtils.hasText(status)) {
+            return Set.of();
+        }
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        for (String name : status.split(",")) {
+            try {
+                statuses.add(TaskStatus.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidFilterException(String.format("Unknown status '%s'; supported statuses are %s",
+                        name.trim(), Arrays.toString(TaskStatus.values())));
+            }
+        }
+        return Collections.unmodifiableSet(statuses);
+    }
+
+    private static LocalDateTime time(String name, String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidFilterException(String.format(
+                    "'%s' must be an ISO-8601 date-time in UTC, e.g. 2024-01-31T00:00:00", name));
+        }
+    }
+
+    private static SortKey sortKey(String sort) {
+        if (!StringUtils.hasText(sort)) {
+            return null;
+        }
+        return Arrays.stream(SortKey.values())
+                .filter(key -> key.field.equals(sort.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFilterException(String.format(
+                        "Unknown sort '%s'; supported sorts are %s", sort.trim(), Arrays.stream(SortKey.values())
+                                .map(SortKey::field).collect(Collectors.joining(", ")))));
+    }
+
+    private static Sort.Direction direction(String direction) {
+        if (!StringUtils.hasText(direction)) {
+            return null;
+        }
+        return Sort.Direction.fromOptionalString(direction.trim())
+                .orElseThrow(() -> new InvalidFilterException("Direction must be 'asc' or 'desc'"));
+    }
+}
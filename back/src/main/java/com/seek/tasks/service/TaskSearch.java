@@ -0,0 +1,55 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.exception.InvalidSearchException;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Input checks and paging for ranked task search, shared by the blocking and
+ * reactive services. Ranked results cannot resume from a keyset, so pages are
+ * offsets, bounded by {@code maxResults} to keep deep skips off the server.
+ */
+final class TaskSearch {
+
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private TaskSearch() {
+    }
+
+    static String terms(String query) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidSearchException("Search text 'q' is required");
+        }
+        String terms = query.strip();
+        if (terms.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchException("Search text is limited to " + MAX_QUERY_LENGTH + " characters");
+        }
+        return terms;
+    }
+
+    static int page(Integer page) {
+        return page == null || page < 0 ? 0 : page;
+    }
+
+    static long offset(int page, int size) {
+        return (long) page * size;
+    }
+
+    /**
+     * Builds the page from {@code size + 1} rows; the extra row only tells
+     * whether another page exists within {@code maxResults}.
+     */
+    static TaskSearchResponseDTO results(List<Task> tasks, int page, int size, int maxResults) {
+        boolean hasMore = tasks.size() > size && offset(page + 1, size) < maxResults;
+        List<Task> items = tasks.size() > size ? tasks.subList(0, size) : tasks;
+        return TaskSearchResponseDTO.builder()
+                .items(items.stream().map(TaskServiceImpl::mapToResponseDTO).toList())
+                .page(page)
+                .size(size)
+                .hasMore(hasMore)
+                .build();
+    }
+}
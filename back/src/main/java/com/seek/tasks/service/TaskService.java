@@ -1,24 +1,75 @@
 package com.seek.tasks.service;
 
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
 import com.seek.tasks.dto.TaskRequestDTO;
 import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
 import com.seek.tasks.entity.Task.TaskStatus;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TaskService {
 
-    List<TaskResponseDTO> getAllTasksForUser(String userId);
+    /**
+     * Every task of the user matching the filter, with only the selected fields
+     * read and filled in.
+     */
+    List<TaskResponseDTO> getAllTasksForUser(String userId, TaskFields fields, TaskFilter filter);
+
+    TaskPageResponseDTO getTasksPage(String userId, String cursor, Integer size);
+
+    /**
+     * The newest {@code perColumn} tasks of each status with the total per
+     * status, and a cursor per column for {@link #getBoardColumn}.
+     */
+    TaskBoardDTO getBoard(String userId, Integer perColumn);
+
+    TaskPageResponseDTO getBoardColumn(String userId, String cursor, Integer size);
+
+    Stream<TaskResponseDTO> streamTasksForUser(String userId, String afterId);
+
+    /**
+     * The user's tasks whose title or description match {@code query}, best
+     * match first, one page at a time.
+     */
+    TaskSearchResponseDTO searchTasks(String userId, String query, Integer page, Integer size);
+
+    /**
+     * Tasks created or updated and ids of tasks deleted after the {@code since}
+     * cursor, oldest first; everything when {@code since} is absent. Changes may
+     * be sent more than once, so clients apply them idempotently.
+     */
+    TaskChangesDTO getChangesSince(String userId, String since, Integer size);
+
+    TaskStatsDTO getTaskStats(String userId);
+
+    /**
+     * Cheap per-user version of the task collection for conditional GETs;
+     * reads the counters document only, never the tasks.
+     */
+    TaskCollectionVersion getCollectionVersion(String userId);
 
     TaskResponseDTO getTaskById(String taskId, String userId);
 
     TaskResponseDTO createTask(TaskRequestDTO taskRequest, String userId);
 
-    TaskResponseDTO updateTask(String taskId, TaskRequestDTO taskRequest, String userId);
+    /**
+     * Writes below only apply when the task is still at {@code expectedVersion};
+     * pass null to write unconditionally.
+     */
+    TaskResponseDTO updateTask(String taskId, TaskRequestDTO taskRequest, String userId, Long expectedVersion);
+
+    TaskResponseDTO updateTaskStatus(String taskId, TaskStatus status, String userId, Long expectedVersion);
 
-    TaskResponseDTO updateTaskStatus(String taskId, TaskStatus status, String userId);
+    TaskResponseDTO markTaskAsCompleted(String taskId, String userId, Long expectedVersion);
 
-    TaskResponseDTO markTaskAsCompleted(String taskId, String userId);
+    void deleteTask(String taskId, String userId, Long expectedVersion);
 
-    void deleteTask(String taskId, String userId);
+    BatchResponseDTO executeBatch(List<BatchOperationDTO> operations, boolean ordered, String userId);
 }
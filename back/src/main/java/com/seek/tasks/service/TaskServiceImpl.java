@@ -1,33 +1,150 @@
 package com.seek.tasks.service;
 
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
 import com.seek.tasks.dto.TaskRequestDTO;
 import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
 import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.exception.InvalidCursorException;
+import com.seek.tasks.exception.PreconditionFailedException;
 import com.seek.tasks.exception.TaskNotFoundException;
+import com.seek.tasks.repository.TaskBulkResult;
 import com.seek.tasks.repository.TaskRepository;
+import com.seek.tasks.repository.TaskTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "tasks.service", description = "Task service calls, tagged by method")
 public class TaskServiceImpl implements TaskService {
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${tasks.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.pagination.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.search.max-results:1000}")
+    private int maxSearchResults;
+
+    @Value("${tasks.sync.tombstone-retention:P30D}")
+    private Duration tombstoneRetention;
+
+    @Value("${tasks.sync.settle-window:PT2S}")
+    private Duration settleWindow;
+
+    @Override
+    public List<TaskResponseDTO> getAllTasksForUser(String userId, TaskFields fields, TaskFilter filter) {
+        // Projected straight into DTOs, so no Task entity is built per row
+        return taskRepository.findViewsByUserId(userId, fields, filter);
+    }
+
+    @Override
+    public TaskPageResponseDTO getTasksPage(String userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        TaskCursor after = StringUtils.hasText(cursor) ? TaskCursor.decode(cursor) : null;
+
+        // One extra row tells us whether another page exists without a count query
+        List<Task> tasks = taskRepository.findPageByUserId(userId, after, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        List<Task> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        return TaskPageResponseDTO.builder()
+                .items(page.stream().map(TaskServiceImpl::mapToResponseDTO).collect(Collectors.toList()))
+                .nextCursor(hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Override
-    @Transactional(readOnly = true)
-    public List<TaskResponseDTO> getAllTasksForUser(String userId) {
-        return taskRepository.findByUserId(userId).stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
+    public TaskBoardDTO getBoard(String userId, Integer perColumn) {
+        int columnSize = resolvePageSize(perColumn);
+        return TaskBoard.board(taskRepository.findBoardByUserId(userId, columnSize + 1),
+                taskStatsService.getStats(userId), columnSize);
+    }
+
+    @Override
+    public TaskPageResponseDTO getBoardColumn(String userId, String cursor, Integer size) {
+        if (!StringUtils.hasText(cursor)) {
+            throw new InvalidCursorException("A column cursor is required");
+        }
+        TaskBoardCursor after = TaskBoardCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        return TaskBoard.page(taskRepository.findColumnPageByUserId(
+                userId, after.status(), after.after(), pageSize + 1), pageSize);
+    }
+
+    @Override
+    public Stream<TaskResponseDTO> streamTasksForUser(String userId, String afterId) {
+        return taskRepository.streamByUserId(userId, TaskExport.resumeAfter(afterId))
+                .map(TaskServiceImpl::mapToResponseDTO);
+    }
+
+    @Override
+    public TaskSearchResponseDTO searchTasks(String userId, String query, Integer page, Integer size) {
+        String terms = TaskSearch.terms(query);
+        int pageNumber = TaskSearch.page(page);
+        int pageSize = resolvePageSize(size);
+        long offset = TaskSearch.offset(pageNumber, pageSize);
+        List<Task> tasks = offset < maxSearchResults
+                ? taskRepository.searchByUserId(userId, terms, offset, pageSize + 1)
+                : List.of();
+        return TaskSearch.results(tasks, pageNumber, pageSize, maxSearchResults);
+    }
+
+    @Override
+    public TaskChangesDTO getChangesSince(String userId, String since, Integer size) {
+        int pageSize = resolvePageSize(size);
+        LocalDateTime now = now();
+        TaskSyncCursor after = TaskSync.resume(since, now, tombstoneRetention);
+        return TaskSync.page(
+                taskRepository.findChangedSince(userId, after, pageSize + 1),
+                taskTombstoneRepository.findDeletedSince(userId, after, pageSize + 1),
+                after, pageSize, now.minus(settleWindow));
+    }
+
+    @Override
+    public TaskStatsDTO getTaskStats(String userId) {
+        return taskStatsService.getStats(userId);
+    }
+
+    @Override
+    public TaskCollectionVersion getCollectionVersion(String userId) {
+        return taskStatsService.getCollectionVersion(userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(String taskId, String userId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId, userId));
@@ -35,7 +152,6 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional
     public TaskResponseDTO createTask(TaskRequestDTO taskRequest, String userId) {
         Task task = Task.builder()
                 .title(taskRequest.getTitle())
@@ -44,58 +160,125 @@ public class TaskServiceImpl implements TaskService {
                 .userId(userId)
                 .build();
 
+        // Counters must exist before the task write, or its delta would become the whole count
+        taskStatsService.seedIfMissing(userId);
         Task savedTask = taskRepository.save(task);
+        taskStatsService.recordCreated(userId, savedTask.getStatus());
         return mapToResponseDTO(savedTask);
     }
 
     @Override
-    @Transactional
-    public TaskResponseDTO updateTask(String taskId, TaskRequestDTO taskRequest, String userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId, userId));
+    public TaskResponseDTO updateTask(String taskId, TaskRequestDTO taskRequest, String userId,
+                                      Long expectedVersion) {
+        LocalDateTime now = now();
+        taskStatsService.seedIfMissing(userId);
+        Task task = taskRepository.findAndUpdate(taskId, userId, expectedVersion, taskRequest.getTitle(),
+                        taskRequest.getDescription(), taskRequest.getStatus(), now)
+                .orElseThrow(() -> writeRejected(taskId, userId, expectedVersion));
 
+        // The previous document comes back, so the update is replayed on it for the response
+        Task.TaskStatus previousStatus = task.getStatus();
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         if (taskRequest.getStatus() != null) {
             task.setStatus(taskRequest.getStatus());
         }
+        task.setUpdatedAt(now);
+        task.setVersion(versionOf(task) + 1);
 
-        Task updatedTask = taskRepository.save(task);
-        return mapToResponseDTO(updatedTask);
+        taskStatsService.recordStatusChange(userId, previousStatus, task.getStatus());
+        return mapToResponseDTO(task);
     }
 
     @Override
-    @Transactional
-    public TaskResponseDTO updateTaskStatus(String taskId, Task.TaskStatus status, String userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId, userId));
-
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
-        return mapToResponseDTO(updatedTask);
+    public TaskResponseDTO updateTaskStatus(String taskId, Task.TaskStatus status, String userId,
+                                            Long expectedVersion) {
+        return changeStatus(taskId, status, userId, expectedVersion);
     }
 
     @Override
-    @Transactional
-    public TaskResponseDTO markTaskAsCompleted(String taskId, String userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId, userId));
+    public TaskResponseDTO markTaskAsCompleted(String taskId, String userId, Long expectedVersion) {
+        return changeStatus(taskId, Task.TaskStatus.COMPLETED, userId, expectedVersion);
+    }
 
-        task.setStatus(Task.TaskStatus.COMPLETED);
-        Task updatedTask = taskRepository.save(task);
-        return mapToResponseDTO(updatedTask);
+    @Override
+    public void deleteTask(String taskId, String userId, Long expectedVersion) {
+        taskStatsService.seedIfMissing(userId);
+        // The deleted document carries the status needed to keep the counters right
+        Task task = taskRepository.findAndDelete(taskId, userId, expectedVersion)
+                .orElseThrow(() -> writeRejected(taskId, userId, expectedVersion));
+        taskTombstoneRepository.recordDeletions(userId, List.of(taskId), now());
+        taskStatsService.recordDeleted(userId, task.getStatus());
     }
 
     @Override
-    @Transactional
-    public void deleteTask(String taskId, String userId) {
-        if (!taskRepository.existsByIdAndUserId(taskId, userId)) {
-            throw new TaskNotFoundException(taskId, userId);
+    public BatchResponseDTO executeBatch(List<BatchOperationDTO> operations, boolean ordered, String userId) {
+        // Every task the batch touches is resolved with a single query
+        Map<String, TaskStatus> current = taskRepository.findStatusesByIds(
+                userId, TaskBatchPlan.referencedIds(operations));
+        TaskBatchPlan plan = TaskBatchPlan.plan(operations, ordered, userId, current, validator, now());
+
+        TaskBulkResult result = new TaskBulkResult(Map.of(), 0, 0);
+        if (!plan.writes().isEmpty()) {
+            taskStatsService.seedIfMissing(userId);
+            result = taskRepository.bulkWrite(userId, plan.writes(), ordered);
+        }
+        // Only when an update or delete matched nothing are its tasks read back
+        Set<String> unconfirmed = plan.unconfirmedIds(result);
+        Map<String, TaskStatus> stored = unconfirmed.isEmpty()
+                ? Map.of()
+                : taskRepository.findStatusesByIds(userId, unconfirmed);
+        BatchResponseDTO response = plan.complete(result, stored);
+        taskTombstoneRepository.recordDeletions(userId, plan.deletedIds(), now());
+        if (plan.deltasUnknown()) {
+            taskStatsService.recordChanges(userId, Map.of());
+            taskStatsService.recount(userId);
+        } else if (plan.changed()) {
+            taskStatsService.recordChanges(userId, plan.deltas());
+        }
+        return response;
+    }
+
+    private TaskResponseDTO changeStatus(String taskId, Task.TaskStatus status, String userId,
+                                         Long expectedVersion) {
+        LocalDateTime now = now();
+        taskStatsService.seedIfMissing(userId);
+        Task task = taskRepository.findAndUpdateStatus(taskId, userId, expectedVersion, status, now)
+                .orElseThrow(() -> writeRejected(taskId, userId, expectedVersion));
+
+        Task.TaskStatus previousStatus = task.getStatus();
+        task.setStatus(status);
+        task.setUpdatedAt(now);
+        task.setVersion(versionOf(task) + 1);
+        taskStatsService.recordStatusChange(userId, previousStatus, status);
+        return mapToResponseDTO(task);
+    }
+
+    // A conditional write that matched nothing is only a conflict if the task still exists
+    private RuntimeException writeRejected(String taskId, String userId, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsByIdAndUserId(taskId, userId)) {
+            return new PreconditionFailedException(taskId, expectedVersion);
+        }
+        return new TaskNotFoundException(taskId, userId);
+    }
+
+    static long versionOf(Task task) {
+        return task.getVersion() != null ? task.getVersion() : 0L;
+    }
+
+    // Mongo keeps millisecond precision; truncating keeps responses equal to later reads
+    static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
         }
-        taskRepository.deleteByIdAndUserId(taskId, userId);
+        return Math.min(size, maxPageSize);
     }
 
-    private TaskResponseDTO mapToResponseDTO(Task task) {
+    static TaskResponseDTO mapToResponseDTO(Task task) {
         return TaskResponseDTO.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -103,6 +286,7 @@ public class TaskServiceImpl implements TaskService {
                 .status(task.getStatus())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(versionOf(task))
                 .build();
     }
 }
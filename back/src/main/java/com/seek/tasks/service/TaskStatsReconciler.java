@@ -0,0 +1,32 @@
+package com.seek.tasks.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes every user's counters from the tasks collection and
+ * overwrites the ones that drifted (lost increments, writes from older versions).
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.stats.reconcile-enabled", havingValue = "true", matchIfMissing = true)
+public class TaskStatsReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsReconciler.class);
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Scheduled(initialDelayString = "${tasks.stats.reconcile-initial-delay:PT5M}",
+            fixedDelayString = "${tasks.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        try {
+            taskStatsService.reconcileAll();
+        } catch (Exception ex) {
+            logger.error("Task stats reconciliation failed", ex);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+
+import java.util.Map;
+
+public interface TaskStatsService {
+
+    TaskStatsDTO getStats(String userId);
+
+    TaskCollectionVersion getCollectionVersion(String userId);
+
+    /**
+     * Makes sure the user's counters exist before a task write, seeding them from
+     * the user's current tasks if not. Otherwise the write's delta would create a
+     * document holding only that delta.
+     */
+    void seedIfMissing(String userId);
+
+    void recordCreated(String userId, TaskStatus status);
+
+    void recordStatusChange(String userId, TaskStatus from, TaskStatus to);
+
+    void recordDeleted(String userId, TaskStatus status);
+
+    void recordChanges(String userId, Map<TaskStatus, Integer> deltas);
+
+    /**
+     * Recounts the user's counters from their tasks, for writes whose deltas are
+     * not known. If another write lands meanwhile the counters are left to the
+     * reconciler.
+     */
+    void recount(String userId);
+
+    void reconcileAll();
+}
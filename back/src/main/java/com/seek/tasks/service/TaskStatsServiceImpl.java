@@ -0,0 +1,204 @@
+package com.seek.tasks.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import com.seek.tasks.repository.TaskRepository;
+import com.seek.tasks.repository.TaskStatsRepository;
+import com.seek.tasks.repository.TaskStatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsServiceImpl.class);
+
+    private static final int SEEDED_USERS = 100_000;
+
+    @Autowired
+    private TaskStatsRepository taskStatsRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // Counters are never removed, so a user once seen seeded stays seeded
+    private final Cache<String, Boolean> seededUsers = seededUsersCache();
+
+    @Override
+    public TaskStatsDTO getStats(String userId) {
+        TaskStats stats = taskStatsRepository.findById(userId)
+                .orElseGet(() -> initialize(userId));
+        return mapToDTO(stats);
+    }
+
+    @Override
+    public TaskCollectionVersion getCollectionVersion(String userId) {
+        return taskStatsRepository.findById(userId)
+                .map(TaskCollectionVersion::of)
+                .orElse(TaskCollectionVersion.NONE);
+    }
+
+    @Override
+    public void seedIfMissing(String userId) {
+        if (seededUsers.getIfPresent(userId) != null) {
+            return;
+        }
+        if (!taskStatsRepository.existsById(userId)) {
+            taskStatsRepository.seedCounts(userId, taskRepository.countByStatus(userId));
+        }
+        seededUsers.put(userId, Boolean.TRUE);
+    }
+
+    @Override
+    public void recordCreated(String userId, TaskStatus status) {
+        taskStatsRepository.increment(userId, Map.of(status, 1));
+    }
+
+    @Override
+    public void recordStatusChange(String userId, TaskStatus from, TaskStatus to) {
+        taskStatsRepository.increment(userId, statusChange(from, to));
+    }
+
+    @Override
+    public void recordDeleted(String userId, TaskStatus status) {
+        taskStatsRepository.increment(userId, Map.of(status, -1));
+    }
+
+    @Override
+    public void recordChanges(String userId, Map<TaskStatus, Integer> deltas) {
+        taskStatsRepository.increment(userId, deltas);
+    }
+
+    @Override
+    public void recount(String userId) {
+        replaceWithRecount(userId, taskStatsRepository.findById(userId).orElse(null));
+    }
+
+    @Override
+    public void reconcileAll() {
+        Set<String> seen = new HashSet<>();
+        int repaired = 0;
+        try (Stream<TaskStatusCount> rows = taskRepository.streamStatusCounts()) {
+            Iterator<TaskStatusCount> iterator = rows.iterator();
+            String currentUser = null;
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            while (iterator.hasNext()) {
+                TaskStatusCount row = iterator.next();
+                if (!Objects.equals(row.userId(), currentUser)) {
+                    if (currentUser != null && repair(currentUser, counts)) {
+                        repaired++;
+                    }
+                    currentUser = row.userId();
+                    counts = new EnumMap<>(TaskStatus.class);
+                    seen.add(currentUser);
+                }
+                if (row.status() != null) {
+                    counts.put(row.status(), row.count());
+                }
+            }
+            if (currentUser != null && repair(currentUser, counts)) {
+                repaired++;
+            }
+        }
+
+        // Users whose last task was deleted no longer show up in the aggregation
+        try (Stream<TaskStats> stale = taskStatsRepository.findByTotalNot(0)) {
+            for (TaskStats stats : (Iterable<TaskStats>) stale::iterator) {
+                if (!seen.contains(stats.getUserId()) && repair(stats.getUserId(), Map.of())) {
+                    repaired++;
+                }
+            }
+        }
+        logger.info("Task stats reconciled for {} users, {} repaired", seen.size(), repaired);
+    }
+
+    // Counters for users that predate the stats collection are seeded on first read.
+    // A concurrent seed or write may get there first, so the stored counters are read back
+    private TaskStats initialize(String userId) {
+        Map<TaskStatus, Long> counts = taskRepository.countByStatus(userId);
+        taskStatsRepository.seedCounts(userId, counts);
+        seededUsers.put(userId, Boolean.TRUE);
+        return taskStatsRepository.findById(userId).orElseGet(() -> toStats(userId, counts));
+    }
+
+    private boolean repair(String userId, Map<TaskStatus, Long> counts) {
+        TaskStats actual = taskStatsRepository.findById(userId).orElse(null);
+        if (actual != null && sameCounts(toStats(userId, counts), actual)) {
+            return false;
+        }
+        return replaceWithRecount(userId, actual);
+    }
+
+    private boolean replaceWithRecount(String userId, TaskStats actual) {
+        // Recounted after reading the change version, so a write landing in between moves the
+        // version and the replace leaves its increment alone. A write whose task write lands
+        // before the recount and whose increment lands after the replace is still counted
+        // twice; the next run repairs it.
+        Map<TaskStatus, Long> recounted = taskRepository.countByStatus(userId);
+        if (actual == null) {
+            taskStatsRepository.seedCounts(userId, recounted);
+            return true;
+        }
+        boolean replaced = taskStatsRepository.replaceCounts(userId, recounted, actual.getChangeVersion());
+        if (replaced) {
+            logger.debug("Repaired task stats drift for user {}: {} -> {}", userId, actual, recounted);
+        }
+        return replaced;
+    }
+
+    private boolean sameCounts(TaskStats a, TaskStats b) {
+        return a.getTotal() == b.getTotal()
+                && a.getTodo() == b.getTodo()
+                && a.getInProgress() == b.getInProgress()
+                && a.getCompleted() == b.getCompleted();
+    }
+
+    static Cache<String, Boolean> seededUsersCache() {
+        return Caffeine.newBuilder().maximumSize(SEEDED_USERS).build();
+    }
+
+    // Edits that keep the status still move the change version, with no deltas
+    static Map<TaskStatus, Integer> statusChange(TaskStatus from, TaskStatus to) {
+        Map<TaskStatus, Integer> deltas = new EnumMap<>(TaskStatus.class);
+        if (from != to) {
+            deltas.put(from, -1);
+            deltas.put(to, 1);
+        }
+        return deltas;
+    }
+
+    static TaskStats toStats(String userId, Map<TaskStatus, Long> counts) {
+        long todo = counts.getOrDefault(TaskStatus.TODO, 0L);
+        long inProgress = counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L);
+        long completed = counts.getOrDefault(TaskStatus.COMPLETED, 0L);
+        return TaskStats.builder()
+                .userId(userId)
+                .todo(todo)
+                .inProgress(inProgress)
+                .completed(completed)
+                .total(todo + inProgress + completed)
+                .build();
+    }
+
+    static TaskStatsDTO mapToDTO(TaskStats stats) {
+        return TaskStatsDTO.builder()
+                .total(stats.getTotal())
+                .todo(stats.getTodo())
+                .inProgress(stats.getInProgress())
+                .completed(stats.getCompleted())
+                .build();
+    }
+}
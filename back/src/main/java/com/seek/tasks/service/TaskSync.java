@@ -0,0 +1,93 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.exception.SyncCursorExpiredException;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges changed tasks and tombstones read after a sync cursor into one page
+ * of the user's change log. Holds no I/O, so the blocking and reactive
+ * services share it around their own repository calls.
+ */
+final class TaskSync {
+
+    private TaskSync() {
+    }
+
+    /**
+     * Decodes {@code since}, or returns null to sync from the start. Cursors
+     * older than the tombstone retention may have missed deletions that were
+     * compacted away, so they are refused.
+     */
+    static TaskSyncCursor resume(String since, LocalDateTime now, Duration retention) {
+        if (!StringUtils.hasText(since)) {
+            return null;
+        }
+        TaskSyncCursor cursor = TaskSyncCursor.decode(since);
+        if (cursor.at() != null && cursor.at().isBefore(now.minus(retention))) {
+            throw new SyncCursorExpiredException();
+        }
+        return cursor;
+    }
+
+    /**
+     * Takes up to {@code limit} entries in {@code (at, id)} order from both
+     * lists, each read with {@code limit + 1} rows. Once caught up, the next
+     * cursor is held back to {@code settled}: a write stamped just before a
+     * read may commit just after it, so the most recent changes are sent again
+     * on the next call rather than risk skipping one.
+     */
+    static TaskChangesDTO page(List<Task> tasks, List<TaskTombstone> tombstones, TaskSyncCursor after,
+                               int limit, LocalDateTime settled) {
+        List<TaskResponseDTO> changed = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        TaskSyncCursor last = after;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < limit && (t < tasks.size() || d < tombstones.size())) {
+            TaskSyncCursor nextTask = t < tasks.size() ? positionOf(tasks.get(t)) : null;
+            TaskSyncCursor nextTombstone = d < tombstones.size() ? positionOf(tombstones.get(d)) : null;
+            if (nextTombstone == null || (nextTask != null && nextTask.compareTo(nextTombstone) < 0)) {
+                changed.add(TaskServiceImpl.mapToResponseDTO(tasks.get(t++)));
+                last = nextTask;
+            } else {
+                deleted.add(tombstones.get(d++).getTaskId());
+                last = nextTombstone;
+            }
+        }
+
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+        TaskSyncCursor next = last;
+        if (!hasMore) {
+            TaskSyncCursor settledCursor = TaskSyncCursor.before(settled);
+            if (next == null || next.compareTo(settledCursor) > 0) {
+                next = settledCursor;
+            }
+            if (after != null && after.compareTo(next) > 0) {
+                next = after;
+            }
+        }
+        return TaskChangesDTO.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static TaskSyncCursor positionOf(Task task) {
+        return new TaskSyncCursor(task.getUpdatedAt(), task.getId());
+    }
+
+    private static TaskSyncCursor positionOf(TaskTombstone tombstone) {
+        return new TaskSyncCursor(tombstone.getDeletedAt(), tombstone.getTaskId());
+    }
+}
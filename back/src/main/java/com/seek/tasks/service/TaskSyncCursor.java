@@ -0,0 +1,65 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.exception.InvalidCursorException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position in a user's change log, ordered by {@code (at, id)} where {@code at}
+ * is a task's {@code updatedAt} or a tombstone's {@code deletedAt}. A null id
+ * sits before every change made at {@code at}; a null {@code at} before every
+ * dated change. Clients only ever see the opaque {@link #encode() encoded} form.
+ */
+public record TaskSyncCursor(LocalDateTime at, String id) implements Comparable<TaskSyncCursor> {
+
+    private static final String SEPARATOR = ":";
+
+    private static final Comparator<TaskSyncCursor> ORDER = Comparator
+            .comparing(TaskSyncCursor::at, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TaskSyncCursor::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public static TaskSyncCursor before(LocalDateTime at) {
+        return new TaskSyncCursor(at, null);
+    }
+
+    @Override
+    public int compareTo(TaskSyncCursor other) {
+        return ORDER.compare(this, other);
+    }
+
+    public String encode() {
+        String millis = at != null ? Long.toString(at.toInstant(ZoneOffset.UTC).toEpochMilli()) : "";
+        String raw = millis + SEPARATOR + (id != null ? id : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSyncCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            String millis = raw.substring(0, separator);
+            String id = raw.substring(separator + 1);
+            if (!id.isEmpty() && !ObjectId.isValid(id)) {
+                throw new InvalidCursorException();
+            }
+            LocalDateTime at = millis.isEmpty()
+                    ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(millis)), ZoneOffset.UTC);
+            if (at == null && id.isEmpty()) {
+                throw new InvalidCursorException();
+            }
+            return new TaskSyncCursor(at, id.isEmpty() ? null : id);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+}
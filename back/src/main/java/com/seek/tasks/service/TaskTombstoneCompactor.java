@@ -0,0 +1,42 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.repository.TaskTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodically removes tombstones older than the sync retention. Clients
+ * holding an older cursor are told to sync again from the start.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.sync.compaction-enabled", havingValue = "true", matchIfMissing = true)
+public class TaskTombstoneCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTombstoneCompactor.class);
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Value("${tasks.sync.tombstone-retention:P30D}")
+    private Duration retention;
+
+    @Scheduled(initialDelayString = "${tasks.sync.compaction-initial-delay:PT10M}",
+            fixedDelayString = "${tasks.sync.compaction-interval:PT1H}")
+    public void compact() {
+        try {
+            long removed = taskTombstoneRepository.deleteDeletedBefore(TaskServiceImpl.now().minus(retention));
+            if (removed > 0) {
+                logger.info("Compacted {} task tombstones", removed);
+            }
+        } catch (Exception ex) {
+            logger.error("Task tombstone compaction failed", ex);
+        }
+    }
+}
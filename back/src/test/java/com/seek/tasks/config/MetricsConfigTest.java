@@ -0,0 +1,97 @@
+package com.seek.tasks.config;
+
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.repository.TaskRepository;
+import com.seek.tasks.repository.TaskTombstoneRepository;
+import com.seek.tasks.service.TaskService;
+import com.seek.tasks.service.TaskServiceImpl;
+import com.seek.tasks.service.TaskStatsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class MetricsConfigTest {
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import({MetricsConfig.class, TaskServiceImpl.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        // Binds Duration properties the way Spring Boot does
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private Validator validator;
+
+    @Test
+    void taskServiceCalls_ShouldBeTimedPerMethod() {
+        // Arrange
+        when(taskStatsService.getStats("user123")).thenReturn(TaskStatsDTO.builder().total(2).build());
+
+        // Act
+        taskService.getTaskStats("user123");
+        taskService.getTaskStats("user123");
+
+        // Assert
+        Timer timer = meterRegistry.get("tasks.service")
+                .tag("class", TaskServiceImpl.class.getName())
+                .tag("method", "getTaskStats")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void failingTaskServiceCalls_ShouldBeTaggedWithTheException() {
+        // Arrange
+        when(taskStatsService.getStats("user123")).thenThrow(new IllegalStateException("down"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> taskService.getTaskStats("user123"));
+
+        // Assert
+        Timer timer = meterRegistry.get("tasks.service")
+                .tag("method", "getTaskStats")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,60 @@
+package com.seek.tasks.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PinnedThreadMonitorTest {
+
+    private PinnedThreadMonitor monitor;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new PinnedThreadMonitor();
+        ReflectionTestUtils.setField(monitor, "threshold", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(monitor, "meterRegistry", meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void start_ShouldRecordVirtualThreadsBlockingInsideAMonitor() throws Exception {
+        // Arrange
+        Object lock = new Object();
+
+        // Act: sleeping while holding a monitor pins the carrier on JDK 21
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        // Assert: the flight recorder stream delivers events about once a second
+        Timer pinned = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, pinned.count());
+        assertTrue(pinned.totalTime(TimeUnit.MILLISECONDS) >= 40);
+    }
+}
@@ -0,0 +1,317 @@
+package com.seek.tasks.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.seek.tasks.config.BinaryContentConfig;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.User;
+import com.seek.tasks.exception.InvalidCursorException;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.service.ReactiveTaskService;
+import com.seek.tasks.service.TaskChangeFeed;
+import com.seek.tasks.service.TaskChangeSubscriber;
+import com.seek.tasks.service.TaskCollectionVersion;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockAuthentication;
+
+@WebFluxTest(controllers = ReactiveTaskController.class, properties = "tasks.batch.max-operations=2")
+@Import(BinaryContentConfig.class)
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveTaskService taskService;
+
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
+    private WebTestClient client;
+    private TaskResponseDTO taskResponse;
+
+    @BeforeEach
+    void setUp() {
+        User mockUser = User.builder()
+                .id("user123")
+                .username("testuser")
+                .email("test@example.com")
+                .password("password")
+                .build();
+
+        // The JWT WebFilter is not part of this slice, so the principal is supplied directly
+        client = webTestClient
+                .mutateWith(mockAuthentication(
+                        new UsernamePasswordAuthenticationToken(mockUser, null, mockUser.getAuthorities())))
+                .mutateWith(csrf());
+
+        taskResponse = TaskResponseDTO.builder()
+                .id("test-uuid")
+                .title("Test Task")
+                .description("Test Description")
+                .status(Task.TaskStatus.TODO)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .version(3)
+                .build();
+
+        when(taskService.getCollectionVersion(anyString()))
+                .thenReturn(Mono.just(new TaskCollectionVersion(7, Instant.parse("2024-01-15T11:00:00Z"))));
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnTaskListWithCollectionETag() {
+        // Arrange
+        when(taskService.getAllTasksForUser("user123", TaskFields.ALL, TaskFilter.NONE)).thenReturn(Flux.just(taskResponse));
+
+        // Act & Assert
+        client.get().uri("/api/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "W/\"user123-7\"")
+                .expectHeader().valueEquals("Cache-Control", "no-cache, private")
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("test-uuid")
+                .jsonPath("$[0].version").isEqualTo(3);
+    }
+
+    @Test
+    void getAllTasks_WithFields_ShouldReturnOnlyTheSelectedFields() {
+        // Arrange
+        TaskFields fields = TaskFields.parse("title,status");
+        when(taskService.getAllTasksForUser("user123", fields, TaskFilter.NONE)).thenReturn(Flux.just(taskResponse));
+
+        // Act & Assert
+        client.get().uri("/api/tasks?fields=title,status")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("test-uuid")
+                .jsonPath("$[0].title").isEqualTo("Test Task")
+                .jsonPath("$[0].description").doesNotExist()
+                .jsonPath("$[0].version").doesNotExist();
+    }
+
+    @Test
+    void getAllTasks_WithCurrentETag_ShouldReturnNotModifiedWithoutQueryingTasks() {
+        // Act & Assert
+        client.get().uri("/api/tasks")
+                .header("If-None-Match", "W/\"user123-7\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verify(taskService, never()).getAllTasksForUser(anyString(), any(), any());
+    }
+
+    @Test
+    void streamTaskChanges_ShouldSendTheOwnersEventsUntilEvicted() {
+        // Arrange: the feed delivers one change and then drops the connection as too slow
+        when(taskChangeFeed.subscribe(eq("user123"), any())).thenAnswer(invocation -> {
+            TaskChangeSubscriber subscriber = invocation.getArgument(1);
+            subscriber.offer(TaskChangeEventDTO.builder()
+                    .type(TaskChangeEventDTO.ChangeType.DELETED)
+                    .taskId("test-uuid")
+                    .build());
+            subscriber.evict();
+            return (Runnable) () -> { };
+        });
+
+        // Act
+        List<ServerSentEvent<TaskChangeEventDTO>> events = client.get().uri("/api/tasks/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<TaskChangeEventDTO>>() { })
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals("deleted", events.get(0).event());
+        assertEquals("test-uuid", events.get(0).data().getTaskId());
+    }
+
+    @Test
+    void getTaskById_WithCborAccept_ShouldReturnCborVaryingByAccept() throws Exception {
+        // Arrange
+        when(taskService.getTaskById("test-uuid", "user123")).thenReturn(Mono.just(taskResponse));
+
+        // Act
+        byte[] body = client.get().uri("/api/tasks/test-uuid")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectHeader().values("Vary", values -> assertTrue(values.contains("Accept")))
+                .expectHeader().valueEquals("ETag", "\"3-cbor\"")
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        // Assert
+        JsonNode task = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals("Test Task", task.get("title").asText());
+        assertEquals("2024-01-15T10:00:00", task.get("createdAt").asText());
+    }
+
+    @Test
+    void getTaskById_WithCurrentETag_ShouldReturnNotModified() {
+        // Arrange
+        when(taskService.getTaskById("test-uuid", "user123")).thenReturn(Mono.just(taskResponse));
+
+        // Act & Assert
+        client.get().uri("/api/tasks/test-uuid")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getTaskById_WithJsonETagAndCborAccept_ShouldReturnTheCborRepresentation() {
+        // Arrange
+        when(taskService.getTaskById("test-uuid", "user123")).thenReturn(Mono.just(taskResponse));
+
+        // Act & Assert: a cached JSON body must not be revalidated as the CBOR one
+        client.get().uri("/api/tasks/test-uuid")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3-cbor\"");
+    }
+
+    @Test
+    void createTask_WithBlankTitle_ShouldReturnValidationError() {
+        // Arrange
+        TaskRequestDTO invalid = TaskRequestDTO.builder().title("").build();
+
+        // Act & Assert
+        client.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(invalid)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.path").isEqualTo("/api/tasks");
+
+        verify(taskService, never()).createTask(any(), anyString());
+    }
+
+    @Test
+    void updateTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() {
+        // Arrange
+        TaskRequestDTO request = TaskRequestDTO.builder().title("Renamed").build();
+        when(taskService.updateTask(eq("test-uuid"), any(), eq("user123"), eq(2L)))
+                .thenReturn(Mono.error(new PreconditionFailedException("test-uuid", 2L)));
+
+        // Act & Assert
+        client.put().uri("/api/tasks/test-uuid")
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.error").isEqualTo("Precondition Failed");
+    }
+
+    @Test
+    void executeBatch_OverTheLimit_ShouldReturnPayloadTooLarge() {
+        // Act & Assert
+        client.post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"type\":\"DELETE\",\"id\":\"a\"},{\"type\":\"DELETE\",\"id\":\"b\"},"
+                        + "{\"type\":\"DELETE\",\"id\":\"c\"}]")
+                .exchange()
+                .expectStatus().isEqualTo(413)
+                .expectBody().jsonPath("$.error").isEqualTo("Batch Too Large");
+
+        verify(taskService, never()).executeBatch(anyList(), anyBoolean(), anyString());
+    }
+
+    @Test
+    void executeBatch_ShouldPassDecodedOperationsInOrder() {
+        // Arrange
+        when(taskService.executeBatch(anyList(), eq(false), eq("user123")))
+                .thenReturn(Mono.just(BatchResponseDTO.builder().ordered(false).succeeded(2).results(List.of()).build()));
+
+        // Act & Assert
+        client.post().uri("/api/tasks/batch?ordered=false")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"type\":\"CREATE\",\"title\":\"a\"},{\"type\":\"DELETE\",\"id\":\"b\"}]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.succeeded").isEqualTo(2);
+
+        verify(taskService).executeBatch(argThat(operations -> operations.size() == 2
+                && "a".equals(operations.get(0).getTitle())
+                && "b".equals(operations.get(1).getId())), eq(false), eq("user123"));
+    }
+
+    @Test
+    void exportTasks_ShouldStreamOneJsonObjectPerLine() {
+        // Arrange
+        TaskResponseDTO second = TaskResponseDTO.builder().id("second").title("Second").build();
+        when(taskService.streamTasksForUser("user123", null)).thenReturn(Flux.just(taskResponse, second));
+
+        // Act
+        String body = client.get().uri("/api/tasks/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":\"test-uuid\""));
+        assertTrue(lines[1].contains("\"id\":\"second\""));
+    }
+
+    @Test
+    void exportTasks_WithInvalidResumePosition_ShouldReturnBadRequest() {
+        // Arrange
+        when(taskService.streamTasksForUser("user123", "nope"))
+                .thenReturn(Flux.error(new InvalidCursorException("Invalid resume position: nope")));
+
+        // Act & Assert
+        client.get().uri("/api/tasks/export?after=nope")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
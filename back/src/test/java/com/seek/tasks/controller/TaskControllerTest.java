@@ -1,35 +1,79 @@
 package com.seek.tasks.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.seek.tasks.config.BinaryContentConfig;
+import com.seek.tasks.dto.BatchItemResultDTO;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardColumnDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
 import com.seek.tasks.dto.TaskRequestDTO;
 import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
 import com.seek.tasks.entity.Task;
 import com.seek.tasks.entity.User;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.exception.SyncCursorExpiredException;
+import com.seek.tasks.security.JwtAuthenticationFilter;
+import com.seek.tasks.service.TaskBatchReader;
+import com.seek.tasks.service.TaskChangeFeed;
+import com.seek.tasks.service.TaskChangeSubscriber;
+import com.seek.tasks.service.TaskCollectionVersion;
+import com.seek.tasks.service.TaskFields;
+import com.seek.tasks.service.TaskFilter;
 import com.seek.tasks.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(TaskController.class)
+@WebMvcTest(controllers = TaskController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
 @AutoConfigureMockMvc(addFilters = false)
+@Import({TaskBatchReader.class, BinaryContentConfig.class, SseTaskChangeDispatcher.class})
 class TaskControllerTest {
 
     @Autowired
@@ -41,6 +85,9 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
     private TaskResponseDTO taskResponse;
     private TaskRequestDTO taskRequest;
     private User mockUser;
@@ -54,6 +101,10 @@ class TaskControllerTest {
                 .password("password")
                 .build();
 
+        // Filters are disabled for this slice, so the principal is placed in the context directly
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(mockUser, null, mockUser.getAuthorities()));
+
         taskResponse = TaskResponseDTO.builder()
                 .id("test-uuid")
                 .title("Test Task")
@@ -68,6 +119,9 @@ class TaskControllerTest {
                 .description("Test Description")
                 .status(Task.TaskStatus.TODO)
                 .build();
+
+        when(taskService.getCollectionVersion(anyString()))
+                .thenReturn(new TaskCollectionVersion(7, Instant.parse("2024-01-15T11:00:00Z")));
     }
 
     @Test
@@ -75,7 +129,7 @@ class TaskControllerTest {
     void getAllTasks_ShouldReturnTaskList() throws Exception {
         // Arrange
         List<TaskResponseDTO> tasks = Arrays.asList(taskResponse);
-        when(taskService.getAllTasksForUser(anyString())).thenReturn(tasks);
+        when(taskService.getAllTasksForUser(anyString(), eq(TaskFields.ALL), eq(TaskFilter.NONE))).thenReturn(tasks);
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks")
@@ -85,7 +139,278 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].id").value(taskResponse.getId()))
                 .andExpect(jsonPath("$[0].title").value(taskResponse.getTitle()));
 
-        verify(taskService, times(1)).getAllTasksForUser(anyString());
+        verify(taskService, times(1)).getAllTasksForUser(anyString(), eq(TaskFields.ALL), eq(TaskFilter.NONE));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_WithFields_ShouldReturnOnlyTheSelectedFields() throws Exception {
+        // Arrange
+        TaskFields fields = TaskFields.parse("status,title");
+        when(taskService.getAllTasksForUser(anyString(), eq(fields), eq(TaskFilter.NONE))).thenReturn(List.of(taskResponse));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("fields", "status,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskResponse.getId()))
+                .andExpect(jsonPath("$[0].title").value(taskResponse.getTitle()))
+                .andExpect(jsonPath("$[0].status").value("TODO"))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("fields", "title,userId"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Fields"));
+
+        verify(taskService, never()).getAllTasksForUser(anyString(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_WithFilter_ShouldPassTheParsedFilterToTheService() throws Exception {
+        // Arrange
+        TaskFilter filter = new TaskFilter(EnumSet.of(Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS),
+                null, null, LocalDateTime.of(2024, 1, 1, 0, 0), null,
+                TaskFilter.SortKey.UPDATED_AT, Sort.Direction.ASC);
+        when(taskService.getAllTasksForUser(anyString(), eq(TaskFields.ALL), eq(filter)))
+                .thenReturn(List.of(taskResponse));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "todo,IN_PROGRESS")
+                        .param("updatedFrom", "2024-01-01T00:00:00")
+                        .param("sort", "updatedAt")
+                        .param("direction", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskResponse.getId()));
+    }
+
+    @Test
+    @WithMockUser
+    void getAllTasks_WithUnknownStatus_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("status", "TODO,DONE"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Filter"));
+
+        verify(taskService, never()).getAllTasksForUser(anyString(), any(), any());
+    }
+
+    @Test
+    void getAllTasks_WithCurrentETag_ShouldReturnNotModifiedWithoutQueryingTasks() throws Exception {
+        // Arrange
+        String eTag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertEquals("W/\"user123-7\"", eTag);
+        verify(taskService, times(1)).getAllTasksForUser(anyString(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksPage_ShouldReturnItemsAndCursor() throws Exception {
+        // Arrange
+        TaskPageResponseDTO page = TaskPageResponseDTO.builder()
+                .items(List.of(taskResponse))
+                .nextCursor("next-token")
+                .hasMore(true)
+                .build();
+        when(taskService.getTasksPage(anyString(), eq("abc"), eq(20))).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/page")
+                        .param("cursor", "abc")
+                        .param("size", "20")
+                        .with(user(mockUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskResponse.getId()))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @WithMockUser
+    void getBoard_ShouldReturnColumnsWithTotalsAndCursors() throws Exception {
+        // Arrange
+        TaskBoardDTO board = TaskBoardDTO.builder()
+                .columns(List.of(TaskBoardColumnDTO.builder()
+                        .status(Task.TaskStatus.TODO)
+                        .total(120)
+                        .items(List.of(taskResponse))
+                        .nextCursor("todo-token")
+                        .hasMore(true)
+                        .build()))
+                .build();
+        when(taskService.getBoard(anyString(), eq(50))).thenReturn(board);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/board").param("perColumn", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].status").value("TODO"))
+                .andExpect(jsonPath("$.columns[0].total").value(120))
+                .andExpect(jsonPath("$.columns[0].items[0].id").value(taskResponse.getId()))
+                .andExpect(jsonPath("$.columns[0].nextCursor").value("todo-token"));
+    }
+
+    @Test
+    @WithMockUser
+    void searchTasks_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        TaskSearchResponseDTO results = TaskSearchResponseDTO.builder()
+                .items(List.of(taskResponse))
+                .page(1)
+                .size(20)
+                .hasMore(false)
+                .build();
+        when(taskService.searchTasks("user123", "report", 1, 20)).thenReturn(results);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "report")
+                        .param("page", "1")
+                        .param("size", "20")
+                        .with(user(mockUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskResponse.getId()))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskChanges_ShouldReturnChangesAndDeletions() throws Exception {
+        // Arrange
+        TaskChangesDTO changes = TaskChangesDTO.builder()
+                .changed(List.of(taskResponse))
+                .deleted(List.of("deleted-id"))
+                .nextCursor("next-token")
+                .hasMore(false)
+                .build();
+        when(taskService.getChangesSince("user123", "abc", null)).thenReturn(changes);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", "abc")
+                        .with(user(mockUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(taskResponse.getId()))
+                .andExpect(jsonPath("$.deleted[0]").value("deleted-id"))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskChanges_WithExpiredCursor_ShouldReturnGone() throws Exception {
+        // Arrange
+        when(taskService.getChangesSince("user123", "old", null)).thenThrow(new SyncCursorExpiredException());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", "old")
+                        .with(user(mockUser)))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").value("Sync Cursor Expired"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskStats_ShouldReturnCounters() throws Exception {
+        // Arrange
+        TaskStatsDTO stats = TaskStatsDTO.builder().total(6).todo(3).inProgress(2).completed(1).build();
+        when(taskService.getTaskStats("user123")).thenReturn(stats);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stats")
+                        .with(user(mockUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.todo").value(3))
+                .andExpect(jsonPath("$.inProgress").value(2))
+                .andExpect(jsonPath("$.completed").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void exportTasks_ShouldStreamNewlineDelimitedJson() throws Exception {
+        // Arrange
+        TaskResponseDTO second = TaskResponseDTO.builder()
+                .id("second-uuid")
+                .title("Second Task")
+                .status(Task.TaskStatus.COMPLETED)
+                .build();
+        when(taskService.streamTasksForUser(anyString(), eq("65a0c0ffee0000000000a1b2")))
+                .thenReturn(Stream.of(taskResponse, second));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                        .param("after", "65a0c0ffee0000000000a1b2")
+                        .with(user(mockUser)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("test-uuid", objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("second-uuid", objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    @WithMockUser
+    void exportTasks_WithInvalidResumeId_ShouldReturnBadRequestWithoutOpeningTheExport() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/export")
+                        .param("after", "not-an-object-id")
+                        .with(user(mockUser)))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).streamTasksForUser(anyString(), any());
+    }
+
+    @Test
+    void streamTaskChanges_ShouldSendTheOwnersEventsAsServerSentEvents() throws Exception {
+        // Arrange
+        ArgumentCaptor<TaskChangeSubscriber> subscriber = ArgumentCaptor.forClass(TaskChangeSubscriber.class);
+        when(taskChangeFeed.subscribe(eq("user123"), subscriber.capture())).thenReturn(() -> { });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream").with(user(mockUser)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        subscriber.getValue().offer(TaskChangeEventDTO.builder()
+                .type(TaskChangeEventDTO.ChangeType.CREATED)
+                .taskId(taskResponse.getId())
+                .task(taskResponse)
+                .build());
+        // Events still buffered at eviction are dropped, so wait for the write first
+        long deadline = System.currentTimeMillis() + 5000;
+        while (result.getResponse().getContentAsString().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        subscriber.getValue().evict();
+        result.getAsyncResult(5000);
+
+        // Assert
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.startsWith("event:created\ndata:{"), body);
+        assertTrue(body.contains("\"taskId\":\"test-uuid\""), body);
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, result.getResponse().getContentType());
     }
 
     @Test
@@ -105,6 +430,67 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(anyString(), anyString());
     }
 
+    @Test
+    @WithMockUser
+    void getTaskById_WithSmileAccept_ShouldReturnSmileVaryingByAccept() throws Exception {
+        // Arrange
+        taskResponse.setVersion(3L);
+        when(taskService.getTaskById(anyString(), anyString())).thenReturn(taskResponse);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/{id}", "test-uuid")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andExpect(header().string("ETag", "\"3-smile\""))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(taskResponse.getTitle(), body.get("title").asText());
+        // Same date format as the JSON representation, not Jackson's timestamp arrays
+        assertTrue(body.get("createdAt").isTextual());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_WithJsonPreferredOverCbor_ShouldKeepTheJsonETag() throws Exception {
+        // Arrange
+        taskResponse.setVersion(3L);
+        when(taskService.getTaskById(anyString(), anyString())).thenReturn(taskResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/{id}", "test-uuid")
+                        .header("Accept", "application/cbor;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    @WithMockUser
+    void createTask_WithCborBody_ShouldReadAndAnswerCbor() throws Exception {
+        // Arrange
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        when(taskService.createTask(argThat(request -> "Test Task".equals(request.getTitle())), anyString()))
+                .thenReturn(taskResponse);
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(taskRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        JsonNode body = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(taskResponse.getId(), body.get("id").asText());
+        assertTrue(body.get("createdAt").isTextual());
+    }
+
     @Test
     @WithMockUser
     void createTask_ShouldReturnCreatedTask() throws Exception {
@@ -126,7 +512,7 @@ class TaskControllerTest {
     @WithMockUser
     void updateTask_ShouldReturnUpdatedTask() throws Exception {
         // Arrange
-        when(taskService.updateTask(anyString(), any(TaskRequestDTO.class), anyString()))
+        when(taskService.updateTask(anyString(), any(TaskRequestDTO.class), anyString(), isNull()))
                 .thenReturn(taskResponse);
 
         // Act & Assert
@@ -137,14 +523,14 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value(taskResponse.getTitle()));
 
-        verify(taskService, times(1)).updateTask(anyString(), any(TaskRequestDTO.class), anyString());
+        verify(taskService, times(1)).updateTask(anyString(), any(TaskRequestDTO.class), anyString(), isNull());
     }
 
     @Test
     @WithMockUser
     void deleteTask_ShouldReturnNoContent() throws Exception {
         // Arrange
-        doNothing().when(taskService).deleteTask(anyString(), anyString());
+        doNothing().when(taskService).deleteTask(anyString(), anyString(), isNull());
 
         // Act & Assert
         mockMvc.perform(delete("/api/tasks/{id}", "test-uuid")
@@ -152,6 +538,88 @@ class TaskControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
 
-        verify(taskService, times(1)).deleteTask(anyString(), anyString());
+        verify(taskService, times(1)).deleteTask(anyString(), anyString(), isNull());
+    }
+
+    @Test
+    void updateTaskStatus_WithIfMatch_ShouldPassVersionAndReturnETag() throws Exception {
+        // Arrange
+        taskResponse.setVersion(4L);
+        when(taskService.updateTaskStatus("test-uuid", Task.TaskStatus.COMPLETED, "user123", 3L))
+                .thenReturn(taskResponse);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/{id}/status", "test-uuid")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void updateTaskStatus_WithCborIfMatch_ShouldPassVersionAndReturnCborETag() throws Exception {
+        // Arrange
+        taskResponse.setVersion(4L);
+        when(taskService.updateTaskStatus("test-uuid", Task.TaskStatus.COMPLETED, "user123", 3L))
+                .thenReturn(taskResponse);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/{id}/status", "test-uuid")
+                        .header("If-Match", "\"3-cbor\"")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4-cbor\""));
+    }
+
+    @Test
+    void deleteTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        doThrow(new PreconditionFailedException("test-uuid", 3L))
+                .when(taskService).deleteTask("test-uuid", "user123", 3L);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/{id}", "test-uuid")
+                        .header("If-Match", "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void executeBatch_ShouldStreamOperationsToService() throws Exception {
+        // Arrange
+        BatchResponseDTO response = BatchResponseDTO.builder()
+                .ordered(false)
+                .succeeded(2)
+                .results(List.of(
+                        BatchItemResultDTO.builder().index(0).outcome(BatchItemResultDTO.Outcome.OK).build(),
+                        BatchItemResultDTO.builder().index(1).outcome(BatchItemResultDTO.Outcome.OK).build()))
+                .build();
+        when(taskService.executeBatch(anyList(), eq(false), eq("user123"))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                        .param("ordered", "false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"type\":\"CREATE\",\"title\":\"A\"},{\"type\":\"DELETE\",\"id\":\"x\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].outcome").value("OK"));
+
+        verify(taskService).executeBatch(argThat((List<BatchOperationDTO> ops) -> ops.size() == 2
+                && ops.get(1).getType() == BatchOperationDTO.OperationType.DELETE), eq(false), eq("user123"));
+    }
+
+    @Test
+    void executeBatch_WithNonArrayBody_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\":\"CREATE\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid Batch"));
+
+        verify(taskService, never()).executeBatch(anyList(), anyBoolean(), anyString());
     }
 }
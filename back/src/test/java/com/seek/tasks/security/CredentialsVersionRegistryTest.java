@@ -0,0 +1,66 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import com.seek.tasks.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialsVersionRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CredentialsVersionRegistry registry;
+
+    @Test
+    void refresh_ShouldOnlyReadRevocationsSinceTheNewestOneSeen() {
+        // Arrange
+        Instant revokedAt = Instant.parse("2024-01-15T10:00:00Z");
+        Instant since = revokedAt.minus(CredentialsVersionRegistry.OVERLAP);
+        when(userRepository.findCredentialsRevokedSince(Instant.EPOCH.minus(CredentialsVersionRegistry.OVERLAP)))
+                .thenReturn(List.of(revoked("user1", 2, revokedAt)));
+        when(userRepository.findCredentialsRevokedSince(since))
+                .thenReturn(List.of(revoked("user2", 1, revokedAt.plusSeconds(5))));
+
+        // Act
+        registry.refresh();
+        registry.refresh();
+
+        // Assert
+        verify(userRepository).findCredentialsRevokedSince(since);
+        assertFalse(registry.isCurrent("user1", 1));
+        assertTrue(registry.isCurrent("user1", 2));
+        assertFalse(registry.isCurrent("user2", 0));
+        assertTrue(registry.isCurrent("user3", 0));
+    }
+
+    @Test
+    void refresh_ShouldNeverLowerAVersionRevokedLocally() {
+        // Arrange: this instance already saw a newer revocation than the database read returns
+        registry.revoke("user1", 5);
+        when(userRepository.findCredentialsRevokedSince(Instant.EPOCH.minus(CredentialsVersionRegistry.OVERLAP)))
+                .thenReturn(List.of(revoked("user1", 4, Instant.parse("2024-01-15T10:00:00Z"))));
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertFalse(registry.isCurrent("user1", 4));
+    }
+
+    private static User revoked(String id, long version, Instant at) {
+        return User.builder().id(id).credentialsVersion(version).credentialsRevokedAt(at).build();
+    }
+}
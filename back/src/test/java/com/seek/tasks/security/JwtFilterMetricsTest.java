@@ -0,0 +1,54 @@
+package com.seek.tasks.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtFilterMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtFilterMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new JwtFilterMetrics(meterRegistry);
+    }
+
+    @Test
+    void verify_ShouldRecordTheOutcome() {
+        // Arrange
+        Claims claims = Jwts.claims().subject("testuser").build();
+
+        // Act
+        Optional<Claims> valid = metrics.verify(() -> Optional.of(claims));
+        metrics.verify(Optional::empty);
+        metrics.verify(Optional::empty);
+
+        // Assert
+        assertSame(claims, valid.orElseThrow());
+        assertEquals(1, meterRegistry.get(JwtFilterMetrics.VERIFY).tag("outcome", "valid").timer().count());
+        assertEquals(2, meterRegistry.get(JwtFilterMetrics.VERIFY).tag("outcome", "invalid").timer().count());
+    }
+
+    @Test
+    void timedLookup_ShouldRecordBlockingAndReactiveLoads() {
+        // Act
+        String loaded = metrics.timedLookup((String username) -> "user:" + username).apply("testuser");
+        Mono<String> lookup = metrics.timedLookup(Mono.just("user:testuser"));
+
+        // Assert
+        assertEquals("user:testuser", loaded);
+        assertEquals(1, meterRegistry.get(JwtFilterMetrics.USER_LOOKUP).timer().count());
+        StepVerifier.create(lookup).expectNext("user:testuser").verifyComplete();
+        assertEquals(2, meterRegistry.get(JwtFilterMetrics.USER_LOOKUP).timer().count());
+    }
+}
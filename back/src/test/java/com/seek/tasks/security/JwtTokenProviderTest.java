@@ -0,0 +1,118 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForJwtTokenGenerationAndValidation";
+
+    private JwtTokenProvider tokenProvider;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = newProvider(3600000L, true);
+    }
+
+    @Test
+    void parseClaims_WithValidToken_ShouldReturnSubject() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Act
+        Optional<Claims> claims = tokenProvider.parseClaims(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals("testuser", claims.get().getSubject());
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals("testuser", tokenProvider.getUsernameFromToken(token));
+    }
+
+    @Test
+    void generateToken_WithUser_ShouldEmbedPrincipalClaims() {
+        // Arrange
+        User user = User.builder().id("user123").username("testuser").email("test@example.com")
+                .credentialsVersion(4).build();
+
+        // Act
+        Claims claims = tokenProvider.parseClaims(tokenProvider.generateToken(user)).orElseThrow();
+
+        // Assert
+        assertEquals("testuser", claims.getSubject());
+        assertEquals("user123", claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class));
+        assertEquals("test@example.com", claims.get(JwtTokenProvider.CLAIM_EMAIL, String.class));
+        assertEquals(4L, tokenProvider.getCredentialsVersion(claims));
+    }
+
+    @Test
+    void parseClaims_WithRepeatedToken_ShouldServeFromVerifiedCache() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        // Act
+        tokenProvider.parseClaims(token);
+        tokenProvider.parseClaims(token);
+        tokenProvider.parseClaims(token);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "jwt-verified-tokens").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void parseClaims_WithTamperedToken_ShouldReturnEmpty() {
+        // Arrange
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertTrue(tokenProvider.parseClaims(tampered).isEmpty());
+        assertTrue(tokenProvider.parseClaims("not.a.jwt").isEmpty());
+        assertTrue(tokenProvider.parseClaims(null).isEmpty());
+    }
+
+    @Test
+    void parseClaims_WithExpiredToken_ShouldReturnEmpty() {
+        // Arrange
+        JwtTokenProvider expiring = newProvider(-1000L, true);
+        String token = expiring.generateTokenFromUsername("testuser");
+
+        // Act & Assert
+        assertTrue(expiring.parseClaims(token).isEmpty());
+    }
+
+    @Test
+    void parseClaims_WithCacheDisabled_ShouldStillVerify() {
+        // Arrange
+        JwtTokenProvider uncached = newProvider(3600000L, false);
+        String token = uncached.generateTokenFromUsername("testuser");
+
+        // Act & Assert
+        assertEquals("testuser", uncached.parseClaims(token).map(Claims::getSubject).orElse(null));
+    }
+
+    private JwtTokenProvider newProvider(long expiration, boolean cacheEnabled) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(provider, "verifiedCacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(provider, "meterRegistry", meterRegistry);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,110 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_ShouldRoundTripOnThePool() throws Exception {
+        // Arrange
+        encoder = pooled(new BCryptPasswordEncoder(4), 4, 2, 2, Duration.ofSeconds(5));
+
+        // Act
+        String hash = encoder.encode("password123");
+        String asyncHash = encoder.encodeAsync("password123").get();
+
+        // Assert
+        assertTrue(encoder.matches("password123", hash));
+        assertTrue(encoder.matches("password123", asyncHash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(2, meterRegistry.get("executor.pool.max").tag("name", PooledPasswordEncoder.POOL_NAME)
+                .gauge().value());
+    }
+
+    @Test
+    void encode_ShouldRejectAtOnceWhenPoolAndQueueAreFull() throws Exception {
+        // Arrange: one worker busy and one request queued
+        encoder = pooled(blocking(), 10, 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<String> running = encoder.encodeAsync("first");
+        CompletableFuture<String> queued = encoder.encodeAsync("second");
+
+        // Act & Assert
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> encoder.encodeAsync("fourth").get());
+        assertInstanceOf(PasswordHashingBusyException.class, ex.getCause());
+        assertEquals(2, meterRegistry.get("security.password.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hash:first", running.get());
+        assertEquals("hash:second", queued.get());
+    }
+
+    @Test
+    void encode_ShouldGiveUpAfterTheTimeout() {
+        // Arrange
+        encoder = pooled(blocking(), 10, 1, 1, Duration.ofMillis(50));
+
+        // Act & Assert
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("password123"));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldFlagHashesWithAnotherCost() {
+        // Arrange
+        encoder = pooled(new BCryptPasswordEncoder(4), 10, 1, 1, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(12).encode("password123")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(10).encode("password123")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    private PooledPasswordEncoder pooled(PasswordEncoder delegate, int strength, int threads, int queueCapacity,
+                                         Duration timeout) {
+        return new PooledPasswordEncoder(delegate, strength, threads, queueCapacity, timeout, meterRegistry);
+    }
+
+    // Holds every hash until the test releases it, keeping the worker busy
+    private PasswordEncoder blocking() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
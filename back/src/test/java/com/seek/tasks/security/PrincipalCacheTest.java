@@ -0,0 +1,118 @@
+package com.seek.tasks.security;
+
+import com.seek.tasks.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private MeterRegistry meterRegistry;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "enabled", true);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(principalCache, "meterRegistry", meterRegistry);
+        principalCache.init();
+
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return User.builder().id("id-" + username).username(username).build();
+        };
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndRecordHitsAndMisses() {
+        // Act
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void evict_ShouldForceReload() {
+        // Arrange
+        principalCache.get("testuser", loader);
+
+        // Act
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictByUserId_ShouldDropMatchingPrincipalOnly() {
+        // Arrange
+        principalCache.get("alice", loader);
+        principalCache.get("bob", loader);
+
+        // Act
+        principalCache.evictByUserId("id-alice");
+        principalCache.get("alice", loader);
+        principalCache.get("bob", loader);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        // Arrange
+        ReflectionTestUtils.setField(principalCache, "enabled", false);
+
+        // Act
+        principalCache.get("testuser", loader);
+        principalCache.get("testuser", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldRunLoaderOutsideTheCacheMap() {
+        // Arrange: re-entering the same key from the loader fails inside ConcurrentHashMap.compute
+        AtomicInteger depth = new AtomicInteger();
+        Function<String, UserDetails> reentrant = new Function<>() {
+            @Override
+            public UserDetails apply(String username) {
+                if (depth.incrementAndGet() == 1) {
+                    principalCache.get(username, this);
+                }
+                return loader.apply(username);
+            }
+        };
+
+        // Act
+        UserDetails principal = principalCache.get("testuser", reentrant);
+
+        // Assert
+        assertEquals("testuser", principal.getUsername());
+        assertSame(principal, principalCache.get("testuser", loader));
+    }
+}
@@ -6,23 +6,41 @@ import com.seek.tasks.dto.RegisterRequestDTO;
 import com.seek.tasks.entity.User;
 import com.seek.tasks.exception.ResourceAlreadyExistsException;
 import com.seek.tasks.repository.UserRepository;
+import com.seek.tasks.security.CredentialsVersionRegistry;
 import com.seek.tasks.security.JwtTokenProvider;
+import com.seek.tasks.security.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -41,6 +59,12 @@ class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider tokenProvider;
 
+    @Mock
+    private CredentialsVersionRegistry credentialsVersionRegistry;
+
+    @Mock
+    private PrincipalCache principalCache;
+
     @Mock
     private Authentication authentication;
 
@@ -76,11 +100,9 @@ class AuthServiceImplTest {
     @Test
     void register_WithValidData_ShouldReturnAuthResponse() {
         // Arrange
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(user);
-        when(tokenProvider.generateTokenFromUsername(anyString())).thenReturn("jwt-token");
+        when(userRepository.insert(any(User.class))).thenReturn(user);
+        when(tokenProvider.generateToken(any(User.class))).thenReturn("jwt-token");
 
         // Act
         AuthResponseDTO result = authService.register(registerRequest);
@@ -90,30 +112,84 @@ class AuthServiceImplTest {
         assertEquals("jwt-token", result.getToken());
         assertEquals(user.getId(), result.getUserId());
         assertEquals(user.getUsername(), result.getUsername());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).insert(any(User.class));
+        verifyNoMoreInteractions(userRepository);
     }
 
     @Test
     void register_WithExistingUsername_ShouldThrowException() {
         // Arrange
-        when(userRepository.existsByUsername(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.insert(any(User.class))).thenThrow(duplicateKey(User.USERNAME_INDEX));
 
         // Act & Assert
-        assertThrows(ResourceAlreadyExistsException.class, () -> 
+        ResourceAlreadyExistsException ex = assertThrows(ResourceAlreadyExistsException.class, () ->
             authService.register(registerRequest));
-        verify(userRepository, never()).save(any(User.class));
+        assertEquals("Username is already taken", ex.getMessage());
+        verify(tokenProvider, never()).generateToken(any(User.class));
     }
 
     @Test
     void register_WithExistingEmail_ShouldThrowException() {
         // Arrange
-        when(userRepository.existsByUsername(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.insert(any(User.class))).thenThrow(duplicateKey(User.EMAIL_INDEX));
 
         // Act & Assert
-        assertThrows(ResourceAlreadyExistsException.class, () -> 
+        ResourceAlreadyExistsException ex = assertThrows(ResourceAlreadyExistsException.class, () ->
             authService.register(registerRequest));
-        verify(userRepository, never()).save(any(User.class));
+        assertEquals("Email is already registered", ex.getMessage());
+        verify(tokenProvider, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void register_Concurrently_ShouldCreateOneUserWithOneWriteEach() throws Exception {
+        // Arrange: the mocked insert enforces the unique username index like the server does
+        int registrations = 16;
+        Set<String> usernames = ConcurrentHashMap.newKeySet();
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.insert(any(User.class))).thenAnswer(invocation -> {
+            User inserted = invocation.getArgument(0);
+            if (!usernames.add(inserted.getUsername())) {
+                throw duplicateKey(User.USERNAME_INDEX);
+            }
+            return user;
+        });
+        when(tokenProvider.generateToken(any(User.class))).thenReturn("jwt-token");
+
+        // Act
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthResponseDTO>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(registrations);
+        try {
+            for (int i = 0; i < registrations; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authService.register(registerRequest);
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        int created = 0;
+        int conflicts = 0;
+        for (Future<AuthResponseDTO> result : results) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                created++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(ResourceAlreadyExistsException.class, ex.getCause());
+                conflicts++;
+            }
+        }
+
+        // Assert: one round trip per registration and no existence checks
+        assertEquals(1, created);
+        assertEquals(registrations - 1, conflicts);
+        verify(userRepository, times(registrations)).insert(any(User.class));
+        verifyNoMoreInteractions(userRepository);
     }
 
     @Test
@@ -121,16 +197,68 @@ class AuthServiceImplTest {
         // Arrange
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(tokenProvider.generateToken(authentication)).thenReturn("jwt-token");
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(user));
+        when(authentication.getPrincipal()).thenReturn(user);
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
 
         // Act
         AuthResponseDTO result = authService.login(loginRequest);
 
-        // Assert
+        // Assert: the authenticated principal is reused, so the manager's lookup is the only query
         assertNotNull(result);
         assertEquals("jwt-token", result.getToken());
         assertEquals(user.getId(), result.getUserId());
         verify(authenticationManager, times(1)).authenticate(any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void login_ThroughDaoAuthenticationProvider_ShouldQueryTheUserOnce() {
+        // Arrange: the real provider chain, backed by the mocked repository
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+        ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        ReflectionTestUtils.setField(authService, "authenticationManager", new ProviderManager(provider));
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("jwt-token");
+
+        // Act
+        AuthResponseDTO result = authService.login(loginRequest);
+
+        // Assert
+        assertEquals(user.getId(), result.getUserId());
+        verify(userRepository, times(1)).findByUsername("testuser");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void revokeTokens_WithExistingUser_ShouldBumpVersionAndEvictPrincipal() {
+        // Arrange
+        when(userRepository.incrementCredentialsVersion("user123")).thenReturn(3L);
+
+        // Act
+        authService.revokeTokens("user123");
+
+        // Assert
+        verify(credentialsVersionRegistry).revoke("user123", 3L);
+        verify(principalCache).evictByUserId("user123");
+    }
+
+    @Test
+    void revokeTokens_WithUnknownUser_ShouldThrowException() {
+        // Arrange
+        when(userRepository.incrementCredentialsVersion("missing")).thenReturn(-1L);
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> authService.revokeTokens("missing"));
+        verify(credentialsVersionRegistry, never()).revoke(anyString(), anyLong());
+    }
+
+    private static DuplicateKeyException duplicateKey(String index) {
+        return new DuplicateKeyException("E11000 duplicate key error collection: tasks_db.users index: "
+                + index + " dup key: { " + index + ": \"taken\" }");
     }
 }
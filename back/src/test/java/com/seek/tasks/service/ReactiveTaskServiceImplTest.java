@@ -0,0 +1,257 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.BatchItemResultDTO.Outcome;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchOperationDTO.OperationType;
+import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import com.seek.tasks.exception.InvalidCursorException;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.exception.TaskNotFoundException;
+import com.seek.tasks.repository.ReactiveTaskRepository;
+import com.seek.tasks.repository.ReactiveTaskStatsRepository;
+import com.seek.tasks.repository.ReactiveTaskTombstoneRepository;
+import com.seek.tasks.repository.TaskBulkResult;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceImplTest {
+
+    @Mock
+    private ReactiveTaskRepository taskRepository;
+
+    @Mock
+    private ReactiveTaskStatsRepository taskStatsRepository;
+
+    @Mock
+    private ReactiveTaskTombstoneRepository taskTombstoneRepository;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private ReactiveTaskServiceImpl taskService;
+
+    private Task task;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 5);
+
+        userId = "user123";
+        task = Task.builder()
+                .id(new ObjectId().toHexString())
+                .title("Test Task")
+                .description("Test Description")
+                .status(TaskStatus.TODO)
+                .userId(userId)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 0))
+                .version(4L)
+                .build();
+    }
+
+    @Test
+    void getTasksPage_WithMoreRows_ShouldReturnCursorToNextPage() {
+        // Arrange
+        Task older = Task.builder().id(new ObjectId().toHexString()).title("Older").userId(userId)
+                .createdAt(LocalDateTime.of(2024, 1, 14, 10, 0)).build();
+        Task oldest = Task.builder().id(new ObjectId().toHexString()).title("Oldest").userId(userId)
+                .createdAt(LocalDateTime.of(2024, 1, 13, 10, 0)).build();
+        when(taskRepository.findPageByUserId(userId, null, 3)).thenReturn(Flux.just(task, older, oldest));
+
+        // Act & Assert
+        StepVerifier.create(taskService.getTasksPage(userId, null, null))
+                .assertNext(page -> {
+                    assertEquals(2, page.getItems().size());
+                    assertTrue(page.isHasMore());
+                    assertEquals(TaskCursor.of(older).encode(), page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getTasksPage_WithMalformedCursor_ShouldSignalInvalidCursor() {
+        // Act & Assert
+        StepVerifier.create(taskService.getTasksPage(userId, "not-a-cursor", null))
+                .expectError(InvalidCursorException.class)
+                .verify();
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskStats_WithoutCounters_ShouldSeedThemFromTasks() {
+        // Arrange
+        when(taskStatsRepository.findById(userId)).thenReturn(Mono.empty());
+        when(taskRepository.countByStatus(userId))
+                .thenReturn(Mono.just(Map.of(TaskStatus.TODO, 2L, TaskStatus.COMPLETED, 1L)));
+        when(taskStatsRepository.seedCounts(eq(userId), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.getTaskStats(userId))
+                .assertNext(stats -> {
+                    assertEquals(3, stats.getTotal());
+                    assertEquals(2, stats.getTodo());
+                    assertEquals(1, stats.getCompleted());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getCollectionVersion_ShouldComeFromTheCountersDocument() {
+        // Arrange
+        Instant modified = Instant.parse("2024-01-15T11:00:00Z");
+        when(taskStatsRepository.findById(userId))
+                .thenReturn(Mono.just(TaskStats.builder().userId(userId).changeVersion(9).lastModified(modified).build()));
+
+        // Act & Assert
+        StepVerifier.create(taskService.getCollectionVersion(userId))
+                .expectNext(new TaskCollectionVersion(9, modified))
+                .verifyComplete();
+    }
+
+    @Test
+    void getCollectionVersion_WithoutCounters_ShouldStartAtZero() {
+        // Arrange
+        when(taskStatsRepository.findById(userId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.getCollectionVersion(userId))
+                .expectNext(TaskCollectionVersion.NONE)
+                .verifyComplete();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void createTask_ForUserWithTasksButNoCounters_ShouldSeedBeforeWriting() {
+        // Arrange
+        Map<TaskStatus, Long> counts = Map.of(TaskStatus.TODO, 3L);
+        when(taskStatsRepository.existsById(userId)).thenReturn(Mono.just(false));
+        when(taskRepository.countByStatus(userId)).thenReturn(Mono.just(counts));
+        when(taskStatsRepository.seedCounts(userId, counts)).thenReturn(Mono.empty());
+        when(taskRepository.save(any(Task.class))).thenReturn(Mono.just(task));
+        when(taskStatsRepository.increment(eq(userId), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.createTask(TaskRequestDTO.builder().title("New").build(), userId))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        InOrder inOrder = inOrder(taskStatsRepository, taskRepository);
+        inOrder.verify(taskStatsRepository).seedCounts(userId, counts);
+        inOrder.verify(taskRepository).save(any(Task.class));
+        inOrder.verify(taskStatsRepository).increment(userId, Map.of(TaskStatus.TODO, 1));
+    }
+
+    @Test
+    void updateTask_ShouldReplayUpdateOnPreviousDocumentAndMoveCounters() {
+        // Arrange
+        TaskRequestDTO request = TaskRequestDTO.builder()
+                .title("Renamed").description("New").status(TaskStatus.IN_PROGRESS).build();
+        when(taskStatsRepository.existsById(userId)).thenReturn(Mono.just(true));
+        when(taskRepository.findAndUpdate(eq(task.getId()), eq(userId), eq(4L), eq("Renamed"), eq("New"),
+                eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(Mono.just(task));
+        when(taskStatsRepository.increment(eq(userId), any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.updateTask(task.getId(), request, userId, 4L))
+                .assertNext(response -> {
+                    assertEquals("Renamed", response.getTitle());
+                    assertEquals(TaskStatus.IN_PROGRESS, response.getStatus());
+                    assertEquals(5, response.getVersion());
+                })
+                .verifyComplete();
+
+        verify(taskStatsRepository).increment(userId, Map.of(TaskStatus.TODO, -1, TaskStatus.IN_PROGRESS, 1));
+    }
+
+    @Test
+    void updateTaskStatus_WhenVersionMovedOn_ShouldSignalPreconditionFailed() {
+        // Arrange
+        when(taskStatsRepository.existsById(userId)).thenReturn(Mono.just(true));
+        when(taskRepository.findAndUpdateStatus(eq(task.getId()), eq(userId), eq(3L), eq(TaskStatus.COMPLETED),
+                any(LocalDateTime.class))).thenReturn(Mono.empty());
+        when(taskRepository.existsByIdAndUserId(task.getId(), userId)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(taskService.updateTaskStatus(task.getId(), TaskStatus.COMPLETED, userId, 3L))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+
+        verify(taskStatsRepository, never()).increment(anyString(), any());
+    }
+
+    @Test
+    void deleteTask_WhenMissing_ShouldSignalNotFoundWithoutExistenceCheck() {
+        // Arrange
+        when(taskStatsRepository.existsById(userId)).thenReturn(Mono.just(true));
+        when(taskRepository.findAndDelete("missing", userId, null)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.deleteTask("missing", userId, null))
+                .expectError(TaskNotFoundException.class)
+                .verify();
+
+        verify(taskRepository, never()).existsByIdAndUserId(anyString(), anyString());
+    }
+
+    @Test
+    void executeBatch_ShouldWriteOnceAndRecordDeltas() {
+        // Arrange
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(OperationType.CREATE).title("New").build(),
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(task.getId()).build());
+        when(taskRepository.findStatusesByIds(eq(userId), any()))
+                .thenReturn(Mono.just(Map.of(task.getId(), TaskStatus.TODO)));
+        when(taskStatsRepository.existsById(userId)).thenReturn(Mono.just(true));
+        when(taskRepository.bulkWrite(eq(userId), anyList(), eq(true)))
+                .thenReturn(Mono.just(new TaskBulkResult(Map.of(), 0, 1)));
+        when(taskStatsRepository.increment(eq(userId), any())).thenReturn(Mono.empty());
+        when(taskTombstoneRepository.recordDeletions(eq(userId), eq(List.of(task.getId())), any(LocalDateTime.class)))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(taskService.executeBatch(operations, true, userId))
+                .assertNext(response -> {
+                    assertEquals(2, response.getSucceeded());
+                    assertEquals(Outcome.OK, response.getResults().get(1).getOutcome());
+                })
+                .verifyComplete();
+
+        // The created TODO and the deleted TODO cancel out, but the change is still recorded
+        verify(taskRepository, times(1)).bulkWrite(eq(userId), anyList(), eq(true));
+        verify(taskStatsRepository).increment(userId, Map.of(TaskStatus.TODO, 0));
+        verify(taskTombstoneRepository).recordDeletions(eq(userId), eq(List.of(task.getId())), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,135 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeFeedTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        feed = new TaskChangeFeed(meterRegistry);
+    }
+
+    @Test
+    void publish_ShouldReachOnlyTheOwnersConnections() {
+        // Arrange
+        RecordingSubscriber first = new RecordingSubscriber(10);
+        RecordingSubscriber second = new RecordingSubscriber(10);
+        RecordingSubscriber stranger = new RecordingSubscriber(10);
+        feed.subscribe("user123", first);
+        feed.subscribe("user123", second);
+        feed.subscribe("other", stranger);
+
+        // Act
+        feed.publish("user123", event("task-1"));
+
+        // Assert
+        assertEquals(1, first.events.size());
+        assertEquals(1, second.events.size());
+        assertTrue(stranger.events.isEmpty());
+        assertEquals(3, meterRegistry.get("tasks.changes.subscribers").gauge().value());
+    }
+
+    @Test
+    void publish_ShouldEvictSubscriberWhoseBufferIsFull() {
+        // Arrange
+        RecordingSubscriber slow = new RecordingSubscriber(1);
+        RecordingSubscriber fast = new RecordingSubscriber(10);
+        feed.subscribe("user123", slow);
+        feed.subscribe("user123", fast);
+
+        // Act
+        feed.publish("user123", event("task-1"));
+        feed.publish("user123", event("task-2"));
+        feed.publish("user123", event("task-3"));
+
+        // Assert
+        assertTrue(slow.evicted);
+        assertEquals(1, slow.events.size());
+        assertEquals(3, fast.events.size());
+        assertEquals(1, feed.subscriberCount());
+        assertEquals(1, meterRegistry.get("tasks.changes.evicted").counter().count());
+    }
+
+    @Test
+    void heartbeat_ShouldEvictSubscriberThatCannotTakeIt() {
+        // Arrange
+        RecordingSubscriber full = new RecordingSubscriber(0);
+        feed.subscribe("user123", full);
+
+        // Act
+        feed.heartbeat();
+
+        // Assert
+        assertTrue(full.evicted);
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    void subscribe_ShouldStopDeliveryOnceTheHandleRuns() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(10);
+        Runnable unsubscribe = feed.subscribe("user123", subscriber);
+
+        // Act
+        unsubscribe.run();
+        unsubscribe.run();
+        feed.publish("user123", event("task-1"));
+
+        // Assert
+        assertTrue(subscriber.events.isEmpty());
+        assertFalse(subscriber.evicted);
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    private static TaskChangeEventDTO event(String taskId) {
+        return TaskChangeEventDTO.builder().type(ChangeType.DELETED).taskId(taskId).build();
+    }
+
+    private static final class RecordingSubscriber implements TaskChangeSubscriber {
+
+        private final int capacity;
+        private final List<TaskChangeEventDTO> events = new ArrayList<>();
+        private int heartbeats;
+        private boolean evicted;
+
+        private RecordingSubscriber(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(TaskChangeEventDTO event) {
+            if (events.size() + heartbeats >= capacity) {
+                return false;
+            }
+            events.add(event);
+            return true;
+        }
+
+        @Override
+        public boolean offerHeartbeat() {
+            if (events.size() + heartbeats >= capacity) {
+                return false;
+            }
+            heartbeats++;
+            return true;
+        }
+
+        @Override
+        public void evict() {
+            evicted = true;
+        }
+    }
+}
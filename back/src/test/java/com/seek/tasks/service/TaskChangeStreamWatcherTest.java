@@ -0,0 +1,155 @@
+package com.seek.tasks.service;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.seek.tasks.dto.TaskChangeEventDTO;
+import com.seek.tasks.dto.TaskChangeEventDTO.ChangeType;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskChangeStreamWatcherTest {
+
+    private final MappingMongoConverter converter = converter();
+
+    @Test
+    void toEvent_WithInsert_ShouldCarryTheCreatedTask() {
+        // Arrange
+        ObjectId id = new ObjectId();
+        ChangeStreamDocument<Document> change = change(OperationType.INSERT, new Document("_id", id)
+                .append("title", "Test Task")
+                .append("status", "TODO")
+                .append("userId", "user123")
+                .append("createdAt", new Date())
+                .append("version", 2L));
+
+        // Act
+        TaskChangeEventDTO event = TaskChangeStreamWatcher.toEvent(change, converter);
+
+        // Assert
+        assertEquals(ChangeType.CREATED, event.getType());
+        assertEquals(id.toHexString(), event.getTaskId());
+        assertEquals("Test Task", event.getTask().getTitle());
+        assertEquals(2L, event.getTask().getVersion());
+    }
+
+    @Test
+    void toEvent_WithUpdateOfVanishedTask_ShouldBeSkipped() {
+        // Arrange: the lookup ran after the task was deleted
+        ChangeStreamDocument<Document> change = change(OperationType.UPDATE, null);
+
+        // Act & Assert
+        assertNull(TaskChangeStreamWatcher.toEvent(change, converter));
+    }
+
+    @Test
+    void toDeletion_WithTombstoneInsert_ShouldCarryOnlyTheTaskId() {
+        // Arrange
+        ObjectId id = new ObjectId();
+        ChangeStreamDocument<Document> change = change(OperationType.INSERT, new Document("_id", id)
+                .append("userId", "user123")
+                .append("deletedAt", new Date()));
+        when(change.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(id)));
+
+        // Act
+        TaskChangeEventDTO event = TaskChangeStreamWatcher.toDeletion(change);
+
+        // Assert
+        assertEquals(ChangeType.DELETED, event.getType());
+        assertEquals(id.toHexString(), event.getTaskId());
+        assertNull(event.getTask());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void start_WhenResumeTokenFellOutOfHistory_ShouldReopenFromNow() throws InterruptedException {
+        // Arrange: the first stream hands out a token and drops, the resume from it is refused
+        BsonDocument token = new BsonDocument("_data", new BsonString("8263"));
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> dropped = mock(MongoChangeStreamCursor.class);
+        when(dropped.tryNext())
+                .thenReturn(null)
+                .thenThrow(new MongoSocketReadException("Connection reset", new ServerAddress()));
+        when(dropped.getResumeToken()).thenReturn(token);
+        CountDownLatch reopened = new CountDownLatch(1);
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> fresh = mock(MongoChangeStreamCursor.class);
+        when(fresh.tryNext()).thenAnswer(invocation -> {
+            reopened.countDown();
+            return null;
+        });
+        ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class, RETURNS_SELF);
+        when(stream.cursor())
+                .thenReturn(dropped)
+                .thenThrow(new MongoCommandException(new BsonDocument("ok", new BsonInt32(0))
+                        .append("code", new BsonInt32(286))
+                        .append("errmsg", new BsonString("Resume of change stream was not possible")),
+                        new ServerAddress()))
+                .thenReturn(fresh);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(database.watch(anyList())).thenReturn(stream);
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionName(any())).thenReturn("tasks");
+        when(mongoTemplate.getDb()).thenReturn(database);
+        TaskChangeStreamWatcher watcher = new TaskChangeStreamWatcher(mongoTemplate, mock(TaskChangeFeed.class), false);
+
+        // Act
+        watcher.start();
+        try {
+            assertTrue(reopened.await(10, TimeUnit.SECONDS), "The change stream was not reopened");
+        } finally {
+            watcher.stop();
+        }
+
+        // Assert: resumed once after the dropped connection, then opened without the stale token
+        verify(stream, times(3)).cursor();
+        verify(stream, times(1)).resumeAfter(any());
+        verify(stream).resumeAfter(token);
+    }
+
+    // Configured like Spring Boot's, so dates map to LocalDateTime
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> change(OperationType type, Document fullDocument) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(type);
+        when(change.getFullDocument()).thenReturn(fullDocument);
+        return change;
+    }
+}
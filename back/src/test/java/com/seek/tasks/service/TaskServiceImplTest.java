@@ -1,24 +1,60 @@
 package com.seek.tasks.service;
 
+import com.seek.tasks.dto.BatchItemResultDTO.Outcome;
+import com.seek.tasks.dto.BatchOperationDTO;
+import com.seek.tasks.dto.BatchOperationDTO.OperationType;
+import com.seek.tasks.dto.BatchResponseDTO;
+import com.seek.tasks.dto.TaskBoardColumnDTO;
+import com.seek.tasks.dto.TaskBoardDTO;
+import com.seek.tasks.dto.TaskChangesDTO;
+import com.seek.tasks.dto.TaskPageResponseDTO;
 import com.seek.tasks.dto.TaskRequestDTO;
+import com.seek.tasks.dto.TaskStatsDTO;
 import com.seek.tasks.dto.TaskResponseDTO;
+import com.seek.tasks.dto.TaskSearchResponseDTO;
 import com.seek.tasks.entity.Task;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskTombstone;
+import com.seek.tasks.exception.InvalidCursorException;
+import com.seek.tasks.exception.InvalidSearchException;
+import com.seek.tasks.exception.PreconditionFailedException;
+import com.seek.tasks.exception.SyncCursorExpiredException;
 import com.seek.tasks.exception.TaskNotFoundException;
+import com.seek.tasks.repository.TaskBoardColumn;
+import com.seek.tasks.repository.TaskBulkResult;
 import com.seek.tasks.repository.TaskRepository;
+import com.seek.tasks.repository.TaskTombstoneRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +63,15 @@ class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private TaskStatsService taskStatsService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -36,6 +81,12 @@ class TaskServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(taskService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 5);
+        ReflectionTestUtils.setField(taskService, "maxSearchResults", 6);
+        ReflectionTestUtils.setField(taskService, "tombstoneRetention", Duration.ofDays(30));
+        ReflectionTestUtils.setField(taskService, "settleWindow", Duration.ofSeconds(2));
+
         userId = "user123";
         task = Task.builder()
                 .id("test-uuid")
@@ -55,19 +106,246 @@ class TaskServiceImplTest {
     }
 
     @Test
-    void getAllTasksForUser_ShouldReturnAllTasks() {
+    void getAllTasksForUser_ShouldReadProjectedViews() {
         // Arrange
-        List<Task> tasks = Arrays.asList(task);
-        when(taskRepository.findByUserId(userId)).thenReturn(tasks);
+        TaskFields fields = TaskFields.parse("title,status");
+        List<TaskResponseDTO> views = List.of(TaskServiceImpl.mapToResponseDTO(task));
+        when(taskRepository.findViewsByUserId(userId, fields, TaskFilter.NONE)).thenReturn(views);
 
         // Act
-        List<TaskResponseDTO> result = taskService.getAllTasksForUser(userId);
+        List<TaskResponseDTO> result = taskService.getAllTasksForUser(userId, fields, TaskFilter.NONE);
+
+        // Assert
+        assertSame(views, result);
+        verify(taskRepository, times(1)).findViewsByUserId(userId, fields, TaskFilter.NONE);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksPage_WithMoreResults_ShouldReturnNextCursor() {
+        // Arrange
+        Task second = Task.builder()
+                .id("65a1f0c2e4b0a1b2c3d4e5f6")
+                .title("Second Task")
+                .userId(userId)
+                .createdAt(LocalDateTime.of(2024, 1, 10, 12, 0))
+                .build();
+        Task third = Task.builder().id("65a1f0c2e4b0a1b2c3d4e5f5").title("Third Task").userId(userId).build();
+        when(taskRepository.findPageByUserId(eq(userId), isNull(), eq(3)))
+                .thenReturn(Arrays.asList(task, second, third));
+
+        // Act
+        TaskPageResponseDTO result = taskService.getTasksPage(userId, null, null);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasMore());
+        TaskCursor cursor = TaskCursor.decode(result.getNextCursor());
+        assertEquals(second.getId(), cursor.id());
+        assertEquals(second.getCreatedAt(), cursor.createdAt());
+    }
+
+    @Test
+    void getTasksPage_WithCursor_ShouldResumeAfterCursorAndCapSize() {
+        // Arrange
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2024, 1, 10, 12, 0), "65a1f0c2e4b0a1b2c3d4e5f6");
+        when(taskRepository.findPageByUserId(userId, cursor, 6)).thenReturn(List.of(task));
+
+        // Act
+        TaskPageResponseDTO result = taskService.getTasksPage(userId, cursor.encode(), 500);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getBoard_ShouldCapEachColumnAndReturnColumnCursors() {
+        // Arrange
+        Task second = Task.builder()
+                .id("65a1f0c2e4b0a1b2c3d4e5f6")
+                .title("Second Task")
+                .userId(userId)
+                .createdAt(LocalDateTime.of(2024, 1, 10, 12, 0))
+                .build();
+        Task third = Task.builder().id("65a1f0c2e4b0a1b2c3d4e5f5").title("Third Task").userId(userId).build();
+        Task done = Task.builder().id("65a1f0c2e4b0a1b2c3d4e5f4").status(TaskStatus.COMPLETED).build();
+        when(taskRepository.findBoardByUserId(userId, 3)).thenReturn(List.of(
+                new TaskBoardColumn(TaskStatus.TODO, List.of(task, second, third)),
+                new TaskBoardColumn(TaskStatus.IN_PROGRESS, List.of()),
+                new TaskBoardColumn(TaskStatus.COMPLETED, List.of(done))));
+        when(taskStatsService.getStats(userId))
+                .thenReturn(TaskStatsDTO.builder().total(8).todo(7).inProgress(0).completed(1).build());
+
+        // Act
+        TaskBoardDTO result = taskService.getBoard(userId, null);
+
+        // Assert
+        TaskBoardColumnDTO todo = result.getColumns().get(0);
+        assertEquals(7, todo.getTotal());
+        assertEquals(2, todo.getItems().size());
+        assertTrue(todo.isHasMore());
+        TaskBoardCursor cursor = TaskBoardCursor.decode(todo.getNextCursor());
+        assertEquals(TaskStatus.TODO, cursor.status());
+        assertEquals(TaskCursor.of(second), cursor.after());
+        TaskBoardColumnDTO completed = result.getColumns().get(2);
+        assertEquals(TaskStatus.COMPLETED, completed.getStatus());
+        assertEquals(1, completed.getTotal());
+        assertFalse(completed.isHasMore());
+        assertNull(completed.getNextCursor());
+    }
+
+    @Test
+    void getBoardColumn_ShouldResumeTheColumnInTheCursor() {
+        // Arrange
+        TaskBoardCursor cursor = new TaskBoardCursor(TaskStatus.COMPLETED,
+                new TaskCursor(LocalDateTime.of(2024, 1, 10, 12, 0), "65a1f0c2e4b0a1b2c3d4e5f6"));
+        when(taskRepository.findColumnPageByUserId(userId, TaskStatus.COMPLETED, cursor.after(), 6))
+                .thenReturn(List.of(task));
+
+        // Act
+        TaskPageResponseDTO result = taskService.getBoardColumn(userId, cursor.encode(), 500);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void getBoardColumn_WithoutCursor_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> taskService.getBoardColumn(userId, null, null));
+        assertThrows(InvalidCursorException.class, () ->
+            taskService.getBoardColumn(userId, new TaskCursor(null, "65a1f0c2e4b0a1b2c3d4e5f6").encode(), null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksPage_WithMalformedCursor_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () ->
+            taskService.getTasksPage(userId, "not-a-cursor", null));
+        verify(taskRepository, never()).findPageByUserId(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void streamTasksForUser_ShouldMapStreamFromRepository() {
+        // Arrange
+        String afterId = "65a1f0c2e4b0a1b2c3d4e5f6";
+        when(taskRepository.streamByUserId(userId, afterId)).thenReturn(Stream.of(task));
+
+        // Act
+        List<TaskResponseDTO> result = taskService.streamTasksForUser(userId, afterId).toList();
 
         // Assert
-        assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(task.getTitle(), result.get(0).getTitle());
-        verify(taskRepository, times(1)).findByUserId(userId);
+        assertEquals(task.getId(), result.get(0).getId());
+    }
+
+    @Test
+    void streamTasksForUser_WithInvalidResumeId_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () ->
+            taskService.streamTasksForUser(userId, "not-an-object-id"));
+        verify(taskRepository, never()).streamByUserId(anyString(), any());
+    }
+
+    @Test
+    void searchTasks_ShouldReadOnePageOfRankedResults() {
+        // Arrange
+        List<Task> ranked = List.of(changedTask(null), changedTask(null), changedTask(null));
+        when(taskRepository.searchByUserId(userId, "quarterly report", 2L, 3)).thenReturn(ranked);
+
+        // Act
+        TaskSearchResponseDTO result = taskService.searchTasks(userId, "  quarterly report ", 1, null);
+
+        // Assert
+        assertEquals(List.of(ranked.get(0).getId(), ranked.get(1).getId()),
+                result.getItems().stream().map(TaskResponseDTO::getId).toList());
+        assertEquals(1, result.getPage());
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasMore());
+    }
+
+    @Test
+    void searchTasks_ShouldStopAtMaxResults() {
+        // Arrange
+        when(taskRepository.searchByUserId(userId, "report", 4L, 3))
+                .thenReturn(List.of(changedTask(null), changedTask(null), changedTask(null)));
+
+        // Act
+        TaskSearchResponseDTO last = taskService.searchTasks(userId, "report", 2, null);
+        TaskSearchResponseDTO beyond = taskService.searchTasks(userId, "report", 3, null);
+
+        // Assert
+        assertFalse(last.isHasMore());
+        assertTrue(beyond.getItems().isEmpty());
+        verify(taskRepository, times(1)).searchByUserId(anyString(), anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void searchTasks_WithBlankOrTooLongText_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidSearchException.class, () -> taskService.searchTasks(userId, " ", null, null));
+        assertThrows(InvalidSearchException.class,
+                () -> taskService.searchTasks(userId, "x".repeat(201), null, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getChangesSince_ShouldMergeChangesAndTombstonesInOrder() {
+        // Arrange
+        LocalDateTime since = TaskServiceImpl.now().minusHours(1);
+        Task first = changedTask(since.plusMinutes(1));
+        Task third = changedTask(since.plusMinutes(3));
+        TaskTombstone second = TaskTombstone.builder()
+                .taskId(new ObjectId().toHexString())
+                .userId(userId)
+                .deletedAt(since.plusMinutes(2))
+                .build();
+        TaskSyncCursor cursor = TaskSyncCursor.before(since);
+        when(taskRepository.findChangedSince(userId, cursor, 3)).thenReturn(List.of(first, third));
+        when(taskTombstoneRepository.findDeletedSince(userId, cursor, 3)).thenReturn(List.of(second));
+
+        // Act
+        TaskChangesDTO result = taskService.getChangesSince(userId, cursor.encode(), null);
+
+        // Assert
+        assertEquals(List.of(first.getId()), result.getChanged().stream().map(TaskResponseDTO::getId).toList());
+        assertEquals(List.of(second.getTaskId()), result.getDeleted());
+        assertTrue(result.isHasMore());
+        assertEquals(new TaskSyncCursor(second.getDeletedAt(), second.getTaskId()),
+                TaskSyncCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getChangesSince_WhenCaughtUp_ShouldHoldTheCursorBackBySettleWindow() {
+        // Arrange
+        Task recent = changedTask(TaskServiceImpl.now());
+        when(taskRepository.findChangedSince(userId, null, 3)).thenReturn(List.of(recent));
+        when(taskTombstoneRepository.findDeletedSince(userId, null, 3)).thenReturn(List.of());
+
+        // Act
+        TaskChangesDTO result = taskService.getChangesSince(userId, null, null);
+
+        // Assert: the recent change is sent again by the next call
+        TaskSyncCursor next = TaskSyncCursor.decode(result.getNextCursor());
+        assertEquals(1, result.getChanged().size());
+        assertFalse(result.isHasMore());
+        assertNull(next.id());
+        assertTrue(next.at().isBefore(recent.getUpdatedAt()));
+    }
+
+    @Test
+    void getChangesSince_WithCursorOlderThanRetention_ShouldThrowException() {
+        // Arrange
+        String since = TaskSyncCursor.before(TaskServiceImpl.now().minusDays(31)).encode();
+
+        // Act & Assert
+        assertThrows(SyncCursorExpiredException.class, () -> taskService.getChangesSince(userId, since, null));
+        assertThrows(InvalidCursorException.class, () -> taskService.getChangesSince(userId, "not-a-cursor", null));
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
     }
 
     @Test
@@ -110,7 +388,10 @@ class TaskServiceImplTest {
         assertNotNull(result);
         assertEquals(task.getTitle(), result.getTitle());
         assertEquals(task.getDescription(), result.getDescription());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        InOrder inOrder = inOrder(taskStatsService, taskRepository);
+        inOrder.verify(taskStatsService).seedIfMissing(userId);
+        inOrder.verify(taskRepository).save(any(Task.class));
+        inOrder.verify(taskStatsService).recordCreated(userId, Task.TaskStatus.TODO);
     }
 
     @Test
@@ -122,58 +403,220 @@ class TaskServiceImplTest {
                 .status(Task.TaskStatus.COMPLETED)
                 .build();
 
-        when(taskRepository.findByIdAndUserId(task.getId(), userId))
+        when(taskRepository.findAndUpdate(eq(task.getId()), eq(userId), isNull(), eq("Updated Title"),
+                eq("Updated Description"), eq(Task.TaskStatus.COMPLETED), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
 
         // Act
-        TaskResponseDTO result = taskService.updateTask(task.getId(), updateRequest, userId);
+        TaskResponseDTO result = taskService.updateTask(task.getId(), updateRequest, userId, null);
 
         // Assert
         assertNotNull(result);
-        verify(taskRepository, times(1)).findByIdAndUserId(task.getId(), userId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals("Updated Title", result.getTitle());
+        assertEquals(Task.TaskStatus.COMPLETED, result.getStatus());
+        verify(taskRepository, never()).findByIdAndUserId(anyString(), anyString());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatsService, times(1))
+                .recordStatusChange(userId, Task.TaskStatus.TODO, Task.TaskStatus.COMPLETED);
     }
 
     @Test
     void markTaskAsCompleted_ShouldSetCompletedToTrue() {
         // Arrange
-        when(taskRepository.findByIdAndUserId(task.getId(), userId))
+        when(taskRepository.findAndUpdateStatus(eq(task.getId()), eq(userId), isNull(), eq(Task.TaskStatus.COMPLETED),
+                any(LocalDateTime.class)))
                 .thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
 
         // Act
-        TaskResponseDTO result = taskService.markTaskAsCompleted(task.getId(), userId);
+        TaskResponseDTO result = taskService.markTaskAsCompleted(task.getId(), userId, null);
 
         // Assert
         assertNotNull(result);
-        verify(taskRepository, times(1)).findByIdAndUserId(task.getId(), userId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(Task.TaskStatus.COMPLETED, result.getStatus());
+        verify(taskRepository, never()).findByIdAndUserId(anyString(), anyString());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStatsService, times(1))
+                .recordStatusChange(userId, Task.TaskStatus.TODO, Task.TaskStatus.COMPLETED);
     }
 
     @Test
-    void deleteTask_WithValidId_ShouldDeleteTask() {
+    void updateTaskStatus_WithUnknownId_ShouldThrowException() {
+        // Arrange
+        when(taskRepository.findAndUpdateStatus(anyString(), anyString(), any(), any(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () ->
+            taskService.updateTaskStatus("invalid-id", Task.TaskStatus.IN_PROGRESS, userId, null));
+        verify(taskStatsService, never()).recordStatusChange(anyString(), any(), any());
+    }
+
+    @Test
+    void updateTaskStatus_WithStaleVersion_ShouldThrowPreconditionFailed() {
         // Arrange
+        when(taskRepository.findAndUpdateStatus(eq(task.getId()), eq(userId), eq(3L), eq(Task.TaskStatus.IN_PROGRESS),
+                any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
         when(taskRepository.existsByIdAndUserId(task.getId(), userId)).thenReturn(true);
-        doNothing().when(taskRepository).deleteByIdAndUserId(task.getId(), userId);
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () ->
+            taskService.updateTaskStatus(task.getId(), Task.TaskStatus.IN_PROGRESS, userId, 3L));
+        verify(taskStatsService, never()).recordStatusChange(anyString(), any(), any());
+    }
+
+    @Test
+    void updateTaskStatus_WithMatchingVersion_ShouldReturnNextVersion() {
+        // Arrange
+        task.setVersion(3L);
+        when(taskRepository.findAndUpdateStatus(eq(task.getId()), eq(userId), eq(3L), eq(Task.TaskStatus.IN_PROGRESS),
+                any(LocalDateTime.class)))
+                .thenReturn(Optional.of(task));
+
+        // Act
+        TaskResponseDTO result = taskService.updateTaskStatus(task.getId(), Task.TaskStatus.IN_PROGRESS, userId, 3L);
+
+        // Assert
+        assertEquals(4L, result.getVersion());
+        assertEquals(Task.TaskStatus.IN_PROGRESS, result.getStatus());
+    }
+
+    @Test
+    void deleteTask_WithValidId_ShouldDeleteTask() {
+        // Arrange
+        when(taskRepository.findAndDelete(task.getId(), userId, null)).thenReturn(Optional.of(task));
 
         // Act
-        taskService.deleteTask(task.getId(), userId);
+        taskService.deleteTask(task.getId(), userId, null);
 
         // Assert
-        verify(taskRepository, times(1)).existsByIdAndUserId(task.getId(), userId);
-        verify(taskRepository, times(1)).deleteByIdAndUserId(task.getId(), userId);
+        verify(taskRepository, times(1)).findAndDelete(task.getId(), userId, null);
+        verify(taskRepository, never()).findByIdAndUserId(anyString(), anyString());
+        verify(taskTombstoneRepository, times(1))
+                .recordDeletions(eq(userId), eq(List.of(task.getId())), any(LocalDateTime.class));
+        verify(taskStatsService, times(1)).recordDeleted(userId, Task.TaskStatus.TODO);
     }
 
     @Test
     void deleteTask_WithInvalidId_ShouldThrowException() {
         // Arrange
-        when(taskRepository.existsByIdAndUserId(anyString(), anyString())).thenReturn(false);
+        when(taskRepository.findAndDelete(anyString(), anyString(), any())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> 
-            taskService.deleteTask("invalid-id", userId));
-        verify(taskRepository, times(1)).existsByIdAndUserId("invalid-id", userId);
-        verify(taskRepository, never()).deleteByIdAndUserId(anyString(), anyString());
+            taskService.deleteTask("invalid-id", userId, null));
+        verify(taskRepository, times(1)).findAndDelete("invalid-id", userId, null);
+        verifyNoInteractions(taskTombstoneRepository);
+        verify(taskStatsService, never()).recordDeleted(anyString(), any());
+    }
+
+    @Test
+    void executeBatch_Unordered_ShouldApplyValidWritesAndReportEachItem() {
+        // Arrange
+        String ownedId = new ObjectId().toHexString();
+        String missingId = new ObjectId().toHexString();
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(OperationType.CREATE).title("New").build(),
+                BatchOperationDTO.builder().type(OperationType.STATUS).id(ownedId).status(TaskStatus.COMPLETED).build(),
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(missingId).build(),
+                BatchOperationDTO.builder().type(OperationType.CREATE).title("").build());
+        when(taskRepository.findStatusesByIds(eq(userId), any())).thenReturn(Map.of(ownedId, TaskStatus.TODO));
+        when(taskRepository.bulkWrite(eq(userId), anyList(), eq(false))).thenReturn(new TaskBulkResult(Map.of(), 1, 0));
+
+        // Act
+        BatchResponseDTO result = taskService.executeBatch(operations, false, userId);
+
+        // Assert
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(Outcome.OK, result.getResults().get(0).getOutcome());
+        assertNotNull(result.getResults().get(0).getId());
+        assertEquals(Outcome.OK, result.getResults().get(1).getOutcome());
+        assertEquals(Outcome.NOT_FOUND, result.getResults().get(2).getOutcome());
+        assertEquals(Outcome.INVALID, result.getResults().get(3).getOutcome());
+        verify(taskRepository, times(1)).bulkWrite(eq(userId), argThat(writes -> writes.size() == 2), eq(false));
+        verify(taskStatsService).recordChanges(userId, Map.of(TaskStatus.TODO, 0, TaskStatus.COMPLETED, 1));
+    }
+
+    @Test
+    void executeBatch_Ordered_ShouldSkipEverythingAfterFirstFailure() {
+        // Arrange
+        String firstId = new ObjectId().toHexString();
+        String secondId = new ObjectId().toHexString();
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(firstId).build(),
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(secondId).build(),
+                BatchOperationDTO.builder().type(OperationType.CREATE).title("After failure").build());
+        when(taskRepository.findStatusesByIds(eq(userId), any()))
+                .thenReturn(Map.of(firstId, TaskStatus.TODO, secondId, TaskStatus.IN_PROGRESS));
+        when(taskRepository.bulkWrite(eq(userId), anyList(), eq(true)))
+                .thenReturn(new TaskBulkResult(Map.of(1, "write failed"), 0, 1));
+
+        // Act
+        BatchResponseDTO result = taskService.executeBatch(operations, true, userId);
+
+        // Assert
+        assertEquals(1, result.getSucceeded());
+        assertEquals(Outcome.OK, result.getResults().get(0).getOutcome());
+        assertEquals(Outcome.FAILED, result.getResults().get(1).getOutcome());
+        assertEquals("write failed", result.getResults().get(1).getMessage());
+        assertEquals(Outcome.SKIPPED, result.getResults().get(2).getOutcome());
+        verify(taskTombstoneRepository).recordDeletions(eq(userId), eq(List.of(firstId)), any(LocalDateTime.class));
+        verify(taskStatsService).recordChanges(userId, Map.of(TaskStatus.TODO, -1));
+    }
+
+    @Test
+    void executeBatch_WhenTaskDeletedSincePlanned_ShouldReportNotFoundWithoutDeltas() {
+        // Arrange
+        String goneId = new ObjectId().toHexString();
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(OperationType.STATUS).id(goneId).status(TaskStatus.COMPLETED).build(),
+                BatchOperationDTO.builder().type(OperationType.CREATE).title("New").build());
+        // Present when planned, gone when read back after the bulk matched nothing
+        when(taskRepository.findStatusesByIds(eq(userId), any()))
+                .thenReturn(Map.of(goneId, TaskStatus.TODO), Map.of());
+        when(taskRepository.bulkWrite(eq(userId), anyList(), eq(false))).thenReturn(new TaskBulkResult(Map.of(), 0, 0));
+
+        // Act
+        BatchResponseDTO result = taskService.executeBatch(operations, false, userId);
+
+        // Assert
+        assertEquals(Outcome.NOT_FOUND, result.getResults().get(0).getOutcome());
+        assertEquals(Outcome.OK, result.getResults().get(1).getOutcome());
+        verify(taskRepository, times(2)).findStatusesByIds(userId, Set.of(goneId));
+        verify(taskStatsService).recordChanges(userId, Map.of(TaskStatus.TODO, 1));
+        verify(taskStatsService, never()).recount(anyString());
+    }
+
+    @Test
+    void executeBatch_WhenOneOfTwoDeletesMissed_ShouldRecountInsteadOfApplyingDeltas() {
+        // Arrange
+        String firstId = new ObjectId().toHexString();
+        String secondId = new ObjectId().toHexString();
+        List<BatchOperationDTO> operations = List.of(
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(firstId).build(),
+                BatchOperationDTO.builder().type(OperationType.DELETE).id(secondId).build());
+        when(taskRepository.findStatusesByIds(eq(userId), any()))
+                .thenReturn(Map.of(firstId, TaskStatus.TODO, secondId, TaskStatus.COMPLETED), Map.of());
+        when(taskRepository.bulkWrite(eq(userId), anyList(), eq(false))).thenReturn(new TaskBulkResult(Map.of(), 0, 1));
+
+        // Act
+        BatchResponseDTO result = taskService.executeBatch(operations, false, userId);
+
+        // Assert
+        // Either delete may be the one that missed, and both tasks are gone now
+        assertEquals(2, result.getSucceeded());
+        verify(taskStatsService).recordChanges(userId, Map.of());
+        verify(taskStatsService).recount(userId);
+    }
+
+    private Task changedTask(LocalDateTime updatedAt) {
+        return Task.builder()
+                .id(new ObjectId().toHexString())
+                .title("Changed")
+                .status(TaskStatus.TODO)
+                .userId(userId)
+                .updatedAt(updatedAt)
+                .build();
     }
 }
@@ -0,0 +1,191 @@
+package com.seek.tasks.service;
+
+import com.seek.tasks.dto.TaskStatsDTO;
+import com.seek.tasks.entity.Task.TaskStatus;
+import com.seek.tasks.entity.TaskStats;
+import com.seek.tasks.repository.TaskRepository;
+import com.seek.tasks.repository.TaskStatsRepository;
+import com.seek.tasks.repository.TaskStatusCount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceImplTest {
+
+    @Mock
+    private TaskStatsRepository taskStatsRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskStatsServiceImpl taskStatsService;
+
+    @Test
+    void getStats_WithExistingCounters_ShouldNotTouchTasks() {
+        // Arrange
+        TaskStats stats = TaskStats.builder().userId("user123").total(3).todo(1).inProgress(1).completed(1).build();
+        when(taskStatsRepository.findById("user123")).thenReturn(Optional.of(stats));
+
+        // Act
+        TaskStatsDTO result = taskStatsService.getStats("user123");
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getCompleted());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getStats_WithoutCounters_ShouldSeedThemFromAggregation() {
+        // Arrange
+        Map<TaskStatus, Long> counts = Map.of(TaskStatus.TODO, 4L, TaskStatus.COMPLETED, 2L);
+        when(taskStatsRepository.findById("user123")).thenReturn(Optional.empty());
+        when(taskRepository.countByStatus("user123")).thenReturn(counts);
+
+        // Act
+        TaskStatsDTO result = taskStatsService.getStats("user123");
+
+        // Assert
+        assertEquals(6, result.getTotal());
+        assertEquals(4, result.getTodo());
+        assertEquals(0, result.getInProgress());
+        verify(taskStatsRepository, times(1)).seedCounts("user123", counts);
+        verify(taskStatsRepository, never()).replaceCounts(anyString(), anyMap(), anyLong());
+    }
+
+    @Test
+    void getStats_WhenSeededConcurrently_ShouldReturnStoredCounters() {
+        // Arrange
+        when(taskStatsRepository.findById("user123")).thenReturn(Optional.empty(), Optional.of(
+                TaskStats.builder().userId("user123").total(5).todo(5).changeVersion(1).build()));
+        when(taskRepository.countByStatus("user123")).thenReturn(Map.of(TaskStatus.TODO, 4L));
+
+        // Act
+        TaskStatsDTO result = taskStatsService.getStats("user123");
+
+        // Assert
+        assertEquals(5, result.getTotal());
+        assertEquals(5, result.getTodo());
+    }
+
+    @Test
+    void seedIfMissing_ForUserWithTasks_ShouldSeedOnceFromAggregation() {
+        // Arrange
+        Map<TaskStatus, Long> counts = Map.of(TaskStatus.IN_PROGRESS, 3L);
+        when(taskStatsRepository.existsById("user123")).thenReturn(false);
+        when(taskRepository.countByStatus("user123")).thenReturn(counts);
+
+        // Act
+        taskStatsService.seedIfMissing("user123");
+        taskStatsService.seedIfMissing("user123");
+
+        // Assert
+        verify(taskStatsRepository, times(1)).existsById("user123");
+        verify(taskStatsRepository, times(1)).seedCounts("user123", counts);
+    }
+
+    @Test
+    void seedIfMissing_WithExistingCounters_ShouldNotTouchTasks() {
+        // Arrange
+        when(taskStatsRepository.existsById("user123")).thenReturn(true);
+
+        // Act
+        taskStatsService.seedIfMissing("user123");
+
+        // Assert
+        verify(taskStatsRepository, never()).seedCounts(anyString(), anyMap());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void recordStatusChange_ShouldMoveOneTaskBetweenCounters() {
+        // Act
+        taskStatsService.recordStatusChange("user123", TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+        // Assert
+        verify(taskStatsRepository, times(1)).increment("user123",
+                Map.of(TaskStatus.TODO, -1, TaskStatus.IN_PROGRESS, 1));
+    }
+
+    @Test
+    void recordStatusChange_WithSameStatus_ShouldOnlyBumpChangeVersion() {
+        // Act
+        taskStatsService.recordStatusChange("user123", TaskStatus.TODO, TaskStatus.TODO);
+
+        // Assert
+        verify(taskStatsRepository, times(1)).increment("user123", Map.of());
+    }
+
+    @Test
+    void getCollectionVersion_WithoutCounters_ShouldStartAtZero() {
+        // Arrange
+        when(taskStatsRepository.findById("user123")).thenReturn(Optional.empty());
+
+        // Act
+        TaskCollectionVersion version = taskStatsService.getCollectionVersion("user123");
+
+        // Assert
+        assertEquals(0, version.version());
+        assertNull(version.lastModified());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void reconcileAll_ShouldRepairOnlyDriftedCounters() {
+        // Arrange
+        when(taskRepository.streamStatusCounts()).thenReturn(Stream.of(
+                new TaskStatusCount("accurate", TaskStatus.TODO, 2),
+                new TaskStatusCount("drifted", TaskStatus.COMPLETED, 5)));
+        when(taskStatsRepository.findById("accurate")).thenReturn(Optional.of(
+                TaskStats.builder().userId("accurate").total(2).todo(2).build()));
+        when(taskStatsRepository.findById("drifted")).thenReturn(Optional.of(
+                TaskStats.builder().userId("drifted").total(4).completed(4).changeVersion(7).build()));
+        when(taskStatsRepository.findById("emptied")).thenReturn(Optional.of(
+                TaskStats.builder().userId("emptied").total(1).todo(1).changeVersion(3).build()));
+        when(taskRepository.countByStatus("drifted")).thenReturn(Map.of(TaskStatus.COMPLETED, 5L));
+        when(taskRepository.countByStatus("emptied")).thenReturn(Map.of());
+        when(taskStatsRepository.replaceCounts(anyString(), anyMap(), anyLong())).thenReturn(true);
+        when(taskStatsRepository.findByTotalNot(0)).thenReturn(Stream.of(
+                TaskStats.builder().userId("drifted").total(4).completed(4).build(),
+                TaskStats.builder().userId("emptied").total(1).todo(1).build()));
+
+        // Act
+        taskStatsService.reconcileAll();
+
+        // Assert
+        verify(taskStatsRepository, never()).replaceCounts(eq("accurate"), anyMap(), anyLong());
+        verify(taskStatsRepository, times(1)).replaceCounts("drifted", Map.of(TaskStatus.COMPLETED, 5L), 7);
+        verify(taskStatsRepository, times(1)).replaceCounts("emptied", Map.of(), 3);
+    }
+
+    @Test
+    void reconcileAll_WithoutCounters_ShouldSeedInsteadOfReplacing() {
+        // Arrange
+        when(taskRepository.streamStatusCounts()).thenReturn(Stream.of(
+                new TaskStatusCount("unseeded", TaskStatus.TODO, 2)));
+        when(taskStatsRepository.findById("unseeded")).thenReturn(Optional.empty());
+        when(taskRepository.countByStatus("unseeded")).thenReturn(Map.of(TaskStatus.TODO, 2L));
+        when(taskStatsRepository.findByTotalNot(0)).thenReturn(Stream.of());
+
+        // Act
+        taskStatsService.reconcileAll();
+
+        // Assert
+        verify(taskStatsRepository, times(1)).seedCounts("unseeded", Map.of(TaskStatus.TODO, 2L));
+        verify(taskStatsRepository, never()).replaceCounts(anyString(), anyMap(), anyLong());
+    }
+}